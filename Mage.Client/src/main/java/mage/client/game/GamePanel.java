@@ -1063,6 +1063,12 @@ public final class GamePanel extends javax.swing.JPanel {
     }
 
     public synchronized void updateGame(int messageId, GameView game, boolean showPlayable, Map<String, Serializable> options, Set<UUID> targets) {
+        // server can send only changed data, so restore it from the last game data
+        if (game.isDelta() && !game.restoreFromDelta(lastGameData.game)) {
+            logger.warn("Can't restore game update from unknown base data, waiting for full update");
+            return;
+        }
+
         keepLastGameData(messageId, game, showPlayable, options, targets);
 
         if (this.players.isEmpty() && !game.getPlayers().isEmpty()) {
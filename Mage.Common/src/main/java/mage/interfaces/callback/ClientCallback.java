@@ -26,6 +26,9 @@ public class ClientCallback implements Serializable {
     private Object data;
     private ClientCallbackMethod method;
     private int messageId;
+    // server side only: data doesn't depend on the previous callbacks (e.g. full game view, not delta),
+    // so previous not sent callback for the same object can be skipped
+    private transient boolean selfContained = false;
 
     public ClientCallback(ClientCallbackMethod method, UUID objectId) {
         this(method, objectId, null);
@@ -99,6 +102,14 @@ public class ClientCallback implements Serializable {
         return messageId;
     }
 
+    public boolean isSelfContained() {
+        return selfContained;
+    }
+
+    public void setSelfContained(boolean selfContained) {
+        this.selfContained = selfContained;
+    }
+
     public String getInfo() {
         return String.format("message %d - %s - %s", this.getMessageId(), this.getMethod().getType(), this.getMethod());
     }
@@ -68,6 +68,10 @@ public class GameView implements Serializable {
     private int totalErrorsCount;
     private int totalEffectsCount;
 
+    // network: delta updates support, server can send unchanged players as null (see GameSessionWatcher)
+    private long viewVersion = 0; // 0 for unknown (views without version can't be used as delta base)
+    private long deltaBaseVersion = 0; // 0 for full view
+
     public GameView(GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
         Player createdForPlayer = null;
         this.priorityTime = game.getPriorityTime();
@@ -216,6 +220,42 @@ public class GameView implements Serializable {
         this.totalEffectsCount = game.getTotalEffectsCount();
     }
 
+    /**
+     * Network: lightweight copy for another game session (e.g. shared view for all watchers)
+     * <p>
+     * Shares players, cards and other data objects with the source view (it must be read only),
+     * but uses own collections, so personal data like watched hands or delta updates will not affect other sessions.
+     */
+    public GameView(final GameView view) {
+        this.priorityTime = view.priorityTime;
+        this.bufferTime = view.bufferTime;
+        this.players.addAll(view.players);
+        this.myPlayerId = view.myPlayerId;
+        this.myHand.putAll(view.myHand);
+        this.myHelperEmblems.putAll(view.myHelperEmblems);
+        this.canPlayObjects = view.canPlayObjects;
+        this.opponentHands.putAll(view.opponentHands);
+        this.watchedHands.putAll(view.watchedHands);
+        this.stack.putAll(view.stack);
+        this.exiles.addAll(view.exiles);
+        this.revealed.addAll(view.revealed);
+        this.lookedAt.addAll(view.lookedAt);
+        this.companion.addAll(view.companion);
+        this.combat.addAll(view.combat);
+        this.phase = view.phase;
+        this.step = view.step;
+        this.activePlayerId = view.activePlayerId;
+        this.activePlayerName = view.activePlayerName;
+        this.priorityPlayerName = view.priorityPlayerName;
+        this.turn = view.turn;
+        this.special = view.special;
+        this.rollbackTurnsAllowed = view.rollbackTurnsAllowed;
+        this.totalErrorsCount = view.totalErrorsCount;
+        this.totalEffectsCount = view.totalEffectsCount;
+        this.viewVersion = view.viewVersion;
+        this.deltaBaseVersion = view.deltaBaseVersion;
+    }
+
     private void checkPaid(UUID uuid, StackAbility stackAbility) {
         for (Cost cost : stackAbility.getManaCostsToPay()) {
             if (!cost.isPaid()) {
@@ -358,4 +398,62 @@ public class GameView implements Serializable {
     public int getTotalEffectsCount() {
         return this.totalEffectsCount;
     }
+
+    public long getViewVersion() {
+        return viewVersion;
+    }
+
+    public void setViewVersion(long viewVersion) {
+        this.viewVersion = viewVersion;
+    }
+
+    public boolean isDelta() {
+        return this.deltaBaseVersion > 0;
+    }
+
+    /**
+     * Server side: remove unchanged players data from the view (client will restore it from the base view)
+     *
+     * @param baseVersion          version of the last view sent to the client
+     * @param unchangedPlayerIndexes players with same data as in base view
+     */
+    public void makeDelta(long baseVersion, Collection<Integer> unchangedPlayerIndexes) {
+        if (baseVersion <= 0 || unchangedPlayerIndexes.isEmpty()) {
+            return;
+        }
+        this.deltaBaseVersion = baseVersion;
+        for (Integer index : unchangedPlayerIndexes) {
+            this.players.set(index, null);
+        }
+    }
+
+    /**
+     * Client side: restore full view from delta view
+     *
+     * @param baseView last full view on client side
+     * @return false if base view is not the same as server used, so the delta must be ignored (wait for next full view)
+     */
+    public boolean restoreFromDelta(GameView baseView) {
+        if (!isDelta()) {
+            return true;
+        }
+        if (baseView == null
+                || baseView.viewVersion != this.deltaBaseVersion
+                || baseView.players.size() != this.players.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.players.size(); i++) {
+            if (this.players.get(i) == null) {
+                PlayerView playerView = baseView.players.get(i);
+                if (playerView == null) {
+                    return false;
+                }
+                // base view contains client side marks from prev data (selectable, playable), it must be cleared
+                playerView.clearSelectableMarks();
+                this.players.set(i, playerView);
+            }
+        }
+        this.deltaBaseVersion = 0;
+        return true;
+    }
 }
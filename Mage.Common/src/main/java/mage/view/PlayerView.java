@@ -8,6 +8,7 @@ import mage.game.Game;
 import mage.game.GameState;
 import mage.game.command.*;
 import mage.game.permanent.Permanent;
+import mage.players.PlayableObjectStats;
 import mage.players.Player;
 import mage.players.net.UserData;
 import mage.util.CardUtil;
@@ -323,4 +324,24 @@ public class PlayerView implements Serializable {
         return designationNames;
     }
 
+    /**
+     * Client side: clear selectable, chosen and playable marks (used on reuse of old player's data in delta updates)
+     */
+    public void clearSelectableMarks() {
+        List<SelectableObjectView> objects = new ArrayList<>();
+        objects.addAll(this.graveyard.values());
+        objects.addAll(this.exile.values());
+        objects.addAll(this.sideboard.values());
+        objects.addAll(this.helperCards.values());
+        objects.addAll(this.battlefield.values());
+        objects.addAll(this.commandList);
+        if (this.topCard != null) {
+            objects.add(this.topCard);
+        }
+        for (SelectableObjectView object : objects) {
+            object.setChoosable(false);
+            object.setSelected(false);
+            object.setPlayableStats(new PlayableObjectStats());
+        }
+    }
 }
@@ -63,9 +63,25 @@ public class ComputerPlayer6 extends ComputerPlayer {
             new LinkedBlockingQueue<>(),
             new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MAD)
     );
+    // parallel search: root actions calculates in parallel threads (shared by all AI players)
+    // warning, must be another pool than threadPoolSimulations (root search waits results from it)
+    private static final int COMPUTER_MAX_THREADS_FOR_PARALLEL_SEARCH = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService threadPoolParallelSearch = new ThreadPoolExecutor(
+            COMPUTER_MAX_THREADS_FOR_PARALLEL_SEARCH,
+            COMPUTER_MAX_THREADS_FOR_PARALLEL_SEARCH,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MAD_PARALLEL)
+    );
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThinkTimeSecs;
+    protected boolean parallelRootSearch = true; // calc root actions in parallel threads (more nodes for same think time)
+    protected TranspositionTable transpositionTable = null; // same game states from current search
+    protected long totalSimulatedNodes = 0; // stats: all nodes from all searches
+    protected long totalSimulationTimeMs = 0; // stats: time of all searches
+    protected long searchesCount = 0; // random index for searches, so simulations don't change game's random
     protected LinkedList<Ability> actions = new LinkedList<>();
     protected List<UUID> targets = new ArrayList<>();
     protected List<String> choices = new ArrayList<>();
@@ -103,6 +119,8 @@ public class ComputerPlayer6 extends ComputerPlayer {
     public ComputerPlayer6(final ComputerPlayer6 player) {
         super(player);
         this.maxDepth = player.maxDepth;
+        this.parallelRootSearch = player.parallelRootSearch;
+        this.searchesCount = player.searchesCount;
         this.currentScore = player.currentScore;
         if (player.combat != null) {
             this.combat = player.combat.copy();
@@ -118,6 +136,27 @@ public class ComputerPlayer6 extends ComputerPlayer {
         return new ComputerPlayer6(this);
     }
 
+    /**
+     * Allow to disable parallel search (e.g. for unit tests with stable results)
+     */
+    public void setParallelRootSearch(boolean parallelRootSearch) {
+        this.parallelRootSearch = parallelRootSearch;
+    }
+
+    /**
+     * Stats: total simulated nodes from all searches
+     */
+    public long getTotalSimulatedNodes() {
+        return totalSimulatedNodes;
+    }
+
+    /**
+     * Stats: total time of all searches
+     */
+    public long getTotalSimulationTimeMs() {
+        return totalSimulationTimeMs;
+    }
+
     protected void printBattlefieldScore(Game game, String info) {
         if (logger.isInfoEnabled()) {
             logger.info("");
@@ -212,11 +251,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
         // Condition to stop deeper simulation
-        if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+        if (node.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
             throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
         }
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getCount() > maxNodes
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -300,10 +339,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            long gameValue = game.getState().getValueHash(true);
+            logger.trace("Sim getNextAction -- game value:" + gameValue + " test value:" + test.gameValue);
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && gameValue == test.gameValue) {
                 logger.info("simulating -- continuing previous actions chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -311,7 +351,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             } else {
                 if (root.abilities == null || root.abilities.isEmpty()) {
                     logger.info("simulating -- need re-calculation (no more actions)");
-                } else if (game.getState().getValue(true).hashCode() != test.gameValue) {
+                } else if (gameValue != test.gameValue) {
                     logger.info("simulating -- need re-calculation (game state changed between actions)");
                 } else if (!root.playerId.equals(playerId)) {
                     // TODO: need research, why need playerId and why it taken from stack objects as controller
@@ -334,10 +374,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+            if (node.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
                 throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getCount() > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -409,7 +449,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -431,7 +471,13 @@ public class ComputerPlayer6 extends ComputerPlayer {
      */
     protected Integer addActionsTimed() {
         // run new game simulation in parallel thread
-        FutureTask<Integer> task = new FutureTask<>(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        SimulationNode2 searchRoot = root;
+        long startTime = System.currentTimeMillis();
+        this.transpositionTable = new TranspositionTable();
+        this.searchesCount++;
+        Random searchRandom = new Random(RandomUtil.makeSplitSeed(searchRoot.getGame().getRandomSeed(), this.searchesCount));
+        FutureTask<Integer> task = new FutureTask<>(RandomUtil.makeTaskWithRandom(searchRandom,
+                () -> addActions(searchRoot, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE)));
         threadPoolSimulations.execute(task);
         try {
             int maxSeconds = maxThinkTimeSecs;
@@ -460,6 +506,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
             // ?
             logger.error("AI simulation catch unknown error: " + e, e);
             task.cancel(true);
+        } finally {
+            this.totalSimulatedNodes += searchRoot.getTotalCount();
+            this.totalSimulationTimeMs += System.currentTimeMillis() - startTime;
+            this.transpositionTable = null;
         }
         //TODO: timeout handling
         return 0;
@@ -472,7 +522,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getValueHash(true));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -495,201 +545,203 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
+
+        // parallel search: calc all root actions at once, results will be processed in same order as single thread search
+        List<SimulationNode2> parallelNodes = null;
+        List<Integer> parallelScores = null;
+        if (canUseParallelSearch(node, depth, allActions)) {
+            parallelNodes = new ArrayList<>(allActions.size());
+            for (Ability action : allActions) {
+                parallelNodes.add(prepareActionNode(node, game, currentPlayer, action, depth));
+            }
+            parallelScores = calcActionScoresInParallel(parallelNodes, allActions, depth, alpha, beta);
+        }
+
         for (Ability action : allActions) {
             actionNumber++;
-            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
-                    && Thread.interrupted()) {
-                Thread.currentThread().interrupt();
-                logger.info("Sim Prio [" + depth + "] -- interrupted");
-                break;
-            }
-            Game sim = game.createSimulationForAI();
-            if (!(action instanceof StaticAbility) //for MorphAbility, etc
-                    && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            SimulationNode2 newNode;
+            int finalScore;
+            if (parallelNodes != null) {
+                newNode = parallelNodes.get(actionNumber - 1);
+                Integer parallelScore = parallelScores.get(actionNumber - 1);
+                if (newNode == null || parallelScore == null) {
+                    // ignored action or unfinished calculation (timeout)
                     continue;
                 }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // skip priority for opponents before stack resolve
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (!Objects.equals(nextPlayerId, this.getId()));
+                finalScore = parallelScore;
+            } else {
+                if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
+                        && Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    logger.info("Sim Prio [" + depth + "] -- interrupted");
+                    break;
                 }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
-                int finalScore;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
-                    // no more next actions, it's a final score
-                    finalScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
-                } else {
-                    // resolve current action and calc all next actions to find best score (return max possible score)
-                    finalScore = addActions(newNode, depth - 1, alpha, beta);
+                newNode = prepareActionNode(node, game, currentPlayer, action, depth);
+                if (newNode == null) {
+                    continue;
+                }
+                finalScore = calcActionScore(newNode, action, depth, alpha, beta);
+            }
+            logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
+
+            // Hints on data:
+            // * node - started game with executed command (pay and put on stack)
+            // * newNode - resolved game with resolved command (resolve stack)
+            // * node.children - rewrites to store only best tree (e.g. contains only final data)
+            // * node.score - rewrites to store max score (e.g. contains only final data)
+            if (logger.isInfoEnabled()
+                    && depth >= maxDepth) {
+                // show final calculated score and best actions chain from it
+                List<SimulationNode2> fullChain = new ArrayList<>();
+                fullChain.add(newNode);
+                SimulationNode2 finalNode = newNode;
+                while (!finalNode.getChildren().isEmpty()) {
+                    finalNode = finalNode.getChildren().get(0);
+                    fullChain.add(finalNode);
                 }
-                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
-
-                // Hints on data:
-                // * node - started game with executed command (pay and put on stack)
-                // * newNode - resolved game with resolved command (resolve stack)
-                // * node.children - rewrites to store only best tree (e.g. contains only final data)
-                // * node.score - rewrites to store max score (e.g. contains only final data)
-                if (logger.isInfoEnabled()
-                        && depth >= maxDepth) {
-                    // show final calculated score and best actions chain from it
-                    List<SimulationNode2> fullChain = new ArrayList<>();
-                    fullChain.add(newNode);
-                    SimulationNode2 finalNode = newNode;
-                    while (!finalNode.getChildren().isEmpty()) {
-                        finalNode = finalNode.getChildren().get(0);
-                        fullChain.add(finalNode);
-                    }
 
-                    // example: Sim Prio [6] #1 <diff -19, +4444> (Lightning Bolt [aa5]: Cast Lightning Bolt -> Balduvian Bears [c49])
-                    // total
-                    logger.info(String.format("Sim Prio [%d] #%d <total score diff %s (from %s to %s)>",
-                            depth,
-                            actionNumber,
-                            printDiffScore(finalScore - startedScore),
-                            printDiffScore(startedScore),
-                            printDiffScore(finalScore)
-                    ));
-
-                    // details
-                    for (int chainIndex = 0; chainIndex < fullChain.size(); chainIndex++) {
-                        SimulationNode2 currentNode = fullChain.get(chainIndex);
-                        SimulationNode2 prevNode;
-                        if (chainIndex == 0) {
-                            prevNode = node;
-                        } else {
-                            prevNode = fullChain.get(chainIndex - 1);
-                        }
+                // example: Sim Prio [6] #1 <diff -19, +4444> (Lightning Bolt [aa5]: Cast Lightning Bolt -> Balduvian Bears [c49])
+                // total
+                logger.info(String.format("Sim Prio [%d] #%d <total score diff %s (from %s to %s)>",
+                        depth,
+                        actionNumber,
+                        printDiffScore(finalScore - startedScore),
+                        printDiffScore(startedScore),
+                        printDiffScore(finalScore)
+                ));
 
-                        int currentScore = GameStateEvaluator2.evaluate(this.getId(), currentNode.getGame()).getTotalScore();
-                        int prevScore = GameStateEvaluator2.evaluate(this.getId(), prevNode.getGame()).getTotalScore();
+                // details
+                for (int chainIndex = 0; chainIndex < fullChain.size(); chainIndex++) {
+                    SimulationNode2 currentNode = fullChain.get(chainIndex);
+                    SimulationNode2 prevNode;
+                    if (chainIndex == 0) {
+                        prevNode = node;
+                    } else {
+                        prevNode = fullChain.get(chainIndex - 1);
+                    }
 
-                        if (currentNode.getAbilities() != null) {
-                            // ON PRIORITY
+                    int currentScore = GameStateEvaluator2.evaluate(this.getId(), currentNode.getGame()).getTotalScore();
+                    int prevScore = GameStateEvaluator2.evaluate(this.getId(), prevNode.getGame()).getTotalScore();
 
-                            // runtime check
-                            if (currentNode.getAbilities().size() != 1) {
-                                throw new IllegalStateException("AI's simulated game must contains only one selected action, but found: " + currentNode.getAbilities());
-                            }
-                            if (!currentNode.getTargets().isEmpty() || !currentNode.getChoices().isEmpty()) {
-                                throw new IllegalStateException("WTF, simulated abilities with targets/choices");
-                            }
-                            logger.info(String.format("Sim Prio [%d] -> next action: [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    getAbilityAndSourceInfo(currentNode.getGame(), currentNode.getAbilities().get(0), true)
-                            ));
-                        } else if (!currentNode.getTargets().isEmpty()) {
-                            // ON TARGETS
-                            String targetsInfo = currentNode.getTargets()
-                                    .stream()
-                                    .map(id -> {
-                                        Player player = game.getPlayer(id);
-                                        if (player != null) {
-                                            return player.getName();
-                                        }
-                                        MageObject object = game.getObject(id);
-                                        if (object != null) {
-                                            return object.getIdName();
-                                        }
-                                        return "unknown";
-                                    })
-                                    .collect(Collectors.joining(", "));
-                            logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    targetsInfo)
-                            );
-                        } else if (!currentNode.getChoices().isEmpty()) {
-                            // ON CHOICES
-                            String choicesInfo = String.join(", ", currentNode.getChoices());
-                            logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
-                                    depth,
-                                    currentNode.getDepth(),
-                                    printDiffScore(currentScore - prevScore),
-                                    choicesInfo)
-                            );
-                        } else {
-                            throw new IllegalStateException("AI CALC ERROR: unknown calculation result (no abilities, no targets, no choices)");
-                        }
-                    }
-                }
+                    if (currentNode.getAbilities() != null) {
+                        // ON PRIORITY
 
-                if (currentPlayer.getId().equals(playerId)) {
-                    if (finalScore > bestValSubNodes) {
-                        bestValSubNodes = finalScore;
-                    }
-                    if (depth == maxDepth
-                            && action instanceof PassAbility) {
-                        finalScore = finalScore - PASSIVITY_PENALTY; // passivity penalty
-                    }
-                    if (finalScore > alpha
-                            || (depth == maxDepth
-                            && finalScore == alpha
-                            && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
-                        alpha = finalScore;
-                        bestNode = newNode;
-                        bestNode.setScore(finalScore);
-                        if (!newNode.getChildren().isEmpty()) {
-                            // TODO: wtf, must review all code to remove shared objects
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                        // runtime check
+                        if (currentNode.getAbilities().size() != 1) {
+                            throw new IllegalStateException("AI's simulated game must contains only one selected action, but found: " + currentNode.getAbilities());
                         }
-
-                        // keep only best node
-                        if (depth == maxDepth) {
-                            logger.info("Sim Prio [" + depth + "] -* BEST actions chain so far: <final score " + bestNode.getScore() + ">");
-                            node.children.clear();
-                            node.children.add(bestNode);
-                            node.setScore(bestNode.getScore());
+                        if (!currentNode.getTargets().isEmpty() || !currentNode.getChoices().isEmpty()) {
+                            throw new IllegalStateException("WTF, simulated abilities with targets/choices");
                         }
+                        logger.info(String.format("Sim Prio [%d] -> next action: [%d]<diff %s> (%s)",
+                                depth,
+                                currentNode.getDepth(),
+                                printDiffScore(currentScore - prevScore),
+                                getAbilityAndSourceInfo(currentNode.getGame(), currentNode.getAbilities().get(0), true)
+                        ));
+                    } else if (!currentNode.getTargets().isEmpty()) {
+                        // ON TARGETS
+                        String targetsInfo = currentNode.getTargets()
+                                .stream()
+                                .map(id -> {
+                                    Player player = game.getPlayer(id);
+                                    if (player != null) {
+                                        return player.getName();
+                                    }
+                                    MageObject object = game.getObject(id);
+                                    if (object != null) {
+                                        return object.getIdName();
+                                    }
+                                    return "unknown";
+                                })
+                                .collect(Collectors.joining(", "));
+                        logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
+                                depth,
+                                currentNode.getDepth(),
+                                printDiffScore(currentScore - prevScore),
+                                targetsInfo)
+                        );
+                    } else if (!currentNode.getChoices().isEmpty()) {
+                        // ON CHOICES
+                        String choicesInfo = String.join(", ", currentNode.getChoices());
+                        logger.info(String.format("Sim Prio [%d] -> with choices (TODO): [%d]<diff %s> (%s)",
+                                depth,
+                                currentNode.getDepth(),
+                                printDiffScore(currentScore - prevScore),
+                                choicesInfo)
+                        );
+                    } else {
+                        throw new IllegalStateException("AI CALC ERROR: unknown calculation result (no abilities, no targets, no choices)");
                     }
+                }
+            }
 
-                    // no need to check other actions
-                    if (finalScore == GameStateEvaluator2.WIN_GAME_SCORE) {
-                        logger.debug("Sim Prio -- win - break");
-                        break;
-                    }
-                } else {
-                    if (finalScore < beta) {
-                        beta = finalScore;
-                        bestNode = newNode;
-                        bestNode.setScore(finalScore);
-                        if (!newNode.getChildren().isEmpty()) {
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
-                        }
+            if (currentPlayer.getId().equals(playerId)) {
+                if (finalScore > bestValSubNodes) {
+                    bestValSubNodes = finalScore;
+                }
+                if (depth == maxDepth
+                        && action instanceof PassAbility) {
+                    finalScore = finalScore - PASSIVITY_PENALTY; // passivity penalty
+                }
+                if (finalScore > alpha
+                        || (depth == maxDepth
+                        && finalScore == alpha
+                        && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
+                    alpha = finalScore;
+                    bestNode = newNode;
+                    bestNode.setScore(finalScore);
+                    if (!newNode.getChildren().isEmpty()) {
+                        // TODO: wtf, must review all code to remove shared objects
+                        bestNode.setCombat(newNode.getChildren().get(0).getCombat());
                     }
 
-                    // no need to check other actions
-                    if (finalScore == GameStateEvaluator2.LOSE_GAME_SCORE) {
-                        logger.debug("Sim Prio -- lose - break");
-                        break;
+                    // keep only best node
+                    if (depth == maxDepth) {
+                        logger.info("Sim Prio [" + depth + "] -* BEST actions chain so far: <final score " + bestNode.getScore() + ">");
+                        node.children.clear();
+                        node.children.add(bestNode);
+                        node.setScore(bestNode.getScore());
                     }
                 }
-                if (alpha >= beta) {
+
+                // no need to check other actions
+                if (finalScore == GameStateEvaluator2.WIN_GAME_SCORE) {
+                    logger.debug("Sim Prio -- win - break");
                     break;
                 }
-                if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
-                    throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
+            } else {
+                if (finalScore < beta) {
+                    beta = finalScore;
+                    bestNode = newNode;
+                    bestNode.setScore(finalScore);
+                    if (!newNode.getChildren().isEmpty()) {
+                        bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                    }
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
-                    logger.debug("Sim Prio -- reached end-state");
+
+                // no need to check other actions
+                if (finalScore == GameStateEvaluator2.LOSE_GAME_SCORE) {
+                    logger.debug("Sim Prio -- lose - break");
                     break;
                 }
             }
+            if (alpha >= beta) {
+                break;
+            }
+            if (node.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
+                throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
+            }
+            if (node.getCount() > maxNodes) {
+                logger.debug("Sim Prio -- reached end-state");
+                break;
+            }
         } // end of for (allActions)
 
         if (depth == maxDepth) {
             // TODO: buggy? Why it ended with depth limit 6 on one Pass action?!
-            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + node.getTotalCount()
+                    + (transpositionTable == null ? "" : ", same states: " + transpositionTable.getHits()));
         }
         if (bestNode != null) {
             node.children.clear();
@@ -708,6 +760,131 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
     }
 
+    private boolean canUseParallelSearch(SimulationNode2 node, int depth, List<Ability> allActions) {
+        return this.parallelRootSearch
+                && !COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS // debug mode must use single thread
+                && depth == maxDepth
+                && node.getParent() == null
+                && allActions.size() > 1;
+    }
+
+    /**
+     * Prepare simulated game with activated action (without stack resolve)
+     *
+     * @return null if action can't be activated or must be ignored
+     */
+    private SimulationNode2 prepareActionNode(SimulationNode2 node, Game game, SimulatedPlayer2 currentPlayer, Ability action, int depth) {
+        Game sim = game.createSimulationForAI();
+        if (action instanceof StaticAbility //for MorphAbility, etc
+                || !sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // skip priority for opponents before stack resolve
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(game);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        return new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
+    }
+
+    private int calcActionScore(SimulationNode2 newNode, Ability action, int depth, int alpha, int beta) {
+        Game sim = newNode.getGame();
+
+        // same game state can be reached by another actions order, so use already calculated result
+        TranspositionTable table = this.transpositionTable;
+        long stateKey = 0;
+        if (table != null) {
+            stateKey = TranspositionTable.makeKey(sim, action instanceof PassAbility, depth, alpha, beta);
+            Integer cachedScore = table.get(stateKey);
+            if (cachedScore != null) {
+                newNode.setScore(cachedScore);
+                return cachedScore;
+            }
+        }
+
+        int score;
+        sim.checkStateAndTriggered();
+        if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+            // no more next actions, it's a final score
+            score = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+        } else {
+            // resolve current action and calc all next actions to find best score (return max possible score)
+            score = addActions(newNode, depth - 1, alpha, beta);
+        }
+
+        if (table != null
+                && !Thread.currentThread().isInterrupted()
+                && newNode.getCount() <= maxNodes) {
+            // interrupted or limited calculation is not full, so ignore it
+            table.put(stateKey, score);
+        }
+        return score;
+    }
+
+    /**
+     * Parallel search: calc root actions in parallel threads, each action uses own simulations tree and nodes limit
+     *
+     * @return scores in same order as nodes, null for ignored or unfinished actions
+     */
+    private List<Integer> calcActionScoresInParallel(List<SimulationNode2> nodes, List<Ability> allActions, int depth, int alpha, int beta) {
+        List<Future<Integer>> tasks = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            SimulationNode2 newNode = nodes.get(i);
+            Ability action = allActions.get(i);
+            if (newNode == null) {
+                tasks.add(null);
+                continue;
+            }
+            newNode.resetCount();
+            // each action's copy has same seed, so split it by action index
+            Random taskRandom = new Random(RandomUtil.makeSplitSeed(newNode.getGame().getRandomSeed(), i + 1));
+            tasks.add(threadPoolParallelSearch.submit(RandomUtil.makeTaskWithRandom(taskRandom,
+                    () -> calcActionScore(newNode, action, depth, alpha, beta))));
+        }
+
+        List<Integer> scores = new ArrayList<>(tasks.size());
+        boolean interrupted = false;
+        try {
+            for (Future<Integer> task : tasks) {
+                if (task == null || (interrupted && !task.isDone())) {
+                    scores.add(null);
+                    continue;
+                }
+                try {
+                    scores.add(task.get());
+                } catch (InterruptedException e) {
+                    // AI thinks too long, so use finished actions only
+                    interrupted = true;
+                    scores.add(null);
+                } catch (CancellationException e) {
+                    scores.add(null);
+                }
+            }
+        } catch (ExecutionException e) {
+            // game error
+            throw new IllegalStateException("AI parallel simulation catch game error: " + e.getCause(), e.getCause());
+        } finally {
+            for (Future<Integer> task : tasks) {
+                if (task != null) {
+                    task.cancel(true);
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return scores;
+    }
+
     protected String getAbilityAndSourceInfo(Game game, Ability ability, boolean showTargets) {
         // ability
         // TODO: add modal info
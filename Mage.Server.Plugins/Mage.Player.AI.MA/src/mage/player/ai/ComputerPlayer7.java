@@ -115,7 +115,6 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
             Date startTime = new Date();
             currentScore = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
             root = new SimulationNode2(null, sim, maxDepth, playerId);
             addActionsTimed(); // TODO: root can be null again after addActionsTimed O_o need to research (it's a CPU AI problem?)
             if (root != null && root.children != null && !root.children.isEmpty()) {
@@ -343,7 +343,7 @@ public final class SimulatedPlayer2 extends ComputerPlayer {
         }
         sim.applyEffects();
         SimulationNode2 newNode = new SimulationNode2(parent, sim, depth, playerId);
-        logger.debug("simulating -- node #:" + SimulationNode2.getCount() + " triggered ability option");
+        logger.debug("simulating -- node #:" + newNode.getCount() + " triggered ability option");
         for (Target target : ability.getTargets()) {
             for (UUID targetId : target.getTargets()) {
                 newNode.getTargets().add(targetId); // save for info only (real targets in newNode.ability already)
@@ -5,6 +5,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.combat.Combat;
@@ -15,10 +16,12 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    // nodes counters are shared by all nodes of the same search (each AI's search uses own counters)
+    protected AtomicInteger nodeCount; // for nodes limit (parallel search uses own limit per root action)
+    protected final AtomicInteger totalNodeCount; // for stats
 
     protected Game game;
-    protected int gameValue; // game state hash to monitor changes
+    protected long gameValue; // game state hash to monitor changes
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -34,8 +37,16 @@ public class SimulationNode2 implements Serializable {
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
+        if (parent == null) {
+            this.nodeCount = new AtomicInteger();
+            this.totalNodeCount = new AtomicInteger();
+        } else {
+            this.nodeCount = parent.nodeCount;
+            this.totalNodeCount = parent.totalNodeCount;
+        }
         game.setCustomData(this);
-        nodeCount++;
+        nodeCount.incrementAndGet();
+        totalNodeCount.incrementAndGet();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,23 +60,30 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
+    /**
+     * Use own nodes limit for that node and all next child nodes
+     */
+    public void resetCount() {
+        this.nodeCount = new AtomicInteger(1);
     }
 
-    public static int getCount() {
-        return nodeCount;
+    public int getCount() {
+        return nodeCount.get();
+    }
+
+    public int getTotalCount() {
+        return totalNodeCount.get();
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
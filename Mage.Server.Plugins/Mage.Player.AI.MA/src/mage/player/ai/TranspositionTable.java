@@ -0,0 +1,79 @@
+package mage.player.ai;
+
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI: transposition table for game simulations (one table per search)
+ * <p>
+ * Same game state can be reached by different actions order, so it keeps calculated scores
+ * and the same position will not be simulated again. Search params (depth and alpha-beta window) are part
+ * of the key, so cached score is the same as recalculated one.
+ * <p>
+ * Only score can be reused: actions chain from another branch can refer to other objects (e.g. another card
+ * with same name in hand), so AI must re-calculate next actions after the cached one.
+ * <p>
+ * Thread safe, can be used by parallel search.
+ */
+public class TranspositionTable {
+
+    private static final int MAX_CACHED_SCORES = 100000;
+
+    private final Map<Long, Integer> scores = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    /**
+     * Make key for simulated game after priority action
+     */
+    public static long makeKey(Game game, boolean isPass, int depth, int alpha, int beta) {
+        GameState state = game.getState();
+        long key = state.getValueHash(true);
+
+        // search related data (state's hash is the same for it)
+        // permanents with same name must be different for targeting, e.g. bolt one of the bears
+        long permanentsKey = 0;
+        for (Permanent permanent : state.getBattlefield().getAllPermanents()) {
+            permanentsKey += GameState.combineValueHash(permanent.getId().hashCode(), permanent.getValueHash(state));
+        }
+        key = GameState.combineValueHash(key, permanentsKey);
+        key = GameState.combineValueHash(key, Objects.hashCode(game.getPlayerList().get()));
+        for (Player player : state.getPlayers().values()) {
+            key = GameState.combineValueHash(key, player.getManaPool().getMana().hashCode());
+        }
+        key = GameState.combineValueHash(key, isPass ? 1 : 0);
+        key = GameState.combineValueHash(key, depth);
+        key = GameState.combineValueHash(key, alpha);
+        return GameState.combineValueHash(key, beta);
+    }
+
+    /**
+     * Find calculated score for the same state
+     *
+     * @return score or null if the state wasn't calculated before
+     */
+    public Integer get(long key) {
+        Integer score = scores.get(key);
+        if (score != null) {
+            hits.incrementAndGet();
+        }
+        return score;
+    }
+
+    public void put(long key, int score) {
+        if (scores.size() >= MAX_CACHED_SCORES) {
+            scores.clear();
+        }
+        scores.put(key, score);
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+}
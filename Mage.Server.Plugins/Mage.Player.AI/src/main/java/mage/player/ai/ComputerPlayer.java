@@ -40,6 +40,7 @@ import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 import mage.game.tournament.Tournament;
+import mage.player.ai.simulators.CombatBlockSimulator;
 import mage.player.ai.simulators.CombatGroupSimulator;
 import mage.player.ai.simulators.CombatSimulator;
 import mage.player.ai.simulators.CreatureSimulator;
@@ -2674,33 +2675,7 @@ public class ComputerPlayer extends PlayerImpl {
 
     protected CombatSimulator simulateBlock(CombatSimulator combat, List<Permanent> blockers, Game game) {
         log.debug("simulateBlock");
-
-        TreeNode<CombatSimulator> simulations;
-
-        simulations = new TreeNode<>(combat);
-        addBlockSimulations(blockers, simulations, game);
-        combat.simulate(game);
-
-        return getWorstSimulation(simulations);
-
-    }
-
-    protected void addBlockSimulations(List<Permanent> blockers, TreeNode<CombatSimulator> node, Game game) {
-        int numGroups = node.getData().groups.size();
-        Copier<CombatSimulator> copier = new Copier<>();
-        for (Permanent blocker : blockers) {
-            List<Permanent> subList = remove(blockers, blocker);
-            for (int i = 0; i < numGroups; i++) {
-                if (node.getData().groups.get(i).canBlock(blocker, game)) {
-                    CombatSimulator combat = copier.copy(node.getData());
-                    combat.groups.get(i).blockers.add(new CreatureSimulator(blocker));
-                    TreeNode<CombatSimulator> child = new TreeNode<>(combat);
-                    node.addChild(child);
-                    addBlockSimulations(subList, child, game);
-                    combat.simulate(game);
-                }
-            }
-        }
+        return new CombatBlockSimulator(combat, blockers, game).simulateBestBlock(game);
     }
 
     protected List<Permanent> remove(List<Permanent> source, Permanent element) {
@@ -2713,32 +2688,6 @@ public class ComputerPlayer extends PlayerImpl {
         return newList;
     }
 
-    protected CombatSimulator getBestSimulation(TreeNode<CombatSimulator> simulations) {
-        CombatSimulator best = simulations.getData();
-        int bestResult = best.evaluate();
-        for (TreeNode<CombatSimulator> node : simulations.getChildren()) {
-            CombatSimulator bestSub = getBestSimulation(node);
-            if (bestSub.evaluate() > bestResult) {
-                best = node.getData();
-                bestResult = best.evaluate();
-            }
-        }
-        return best;
-    }
-
-    protected CombatSimulator getWorstSimulation(TreeNode<CombatSimulator> simulations) {
-        CombatSimulator worst = simulations.getData();
-        int worstResult = worst.evaluate();
-        for (TreeNode<CombatSimulator> node : simulations.getChildren()) {
-            CombatSimulator worstSub = getWorstSimulation(node);
-            if (worstSub.evaluate() < worstResult) {
-                worst = node.getData();
-                worstResult = worst.evaluate();
-            }
-        }
-        return worst;
-    }
-
     protected void findBestPermanentTargets(Outcome outcome, UUID abilityControllerId, UUID sourceId, Ability source, FilterPermanent filter, Game game, Target target,
                                             List<Permanent> goodList, List<Permanent> badList, List<Permanent> allList) {
         // searching for most valuable/powerfull permanents
@@ -0,0 +1,368 @@
+package mage.player.ai.simulators;
+
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+
+import java.util.*;
+
+/**
+ * AI: compact combat model to find best blockers (defender's point of view, e.g. min CombatSimulator.evaluate)
+ * <p>
+ * Creatures data stored as primitive arrays, so search uses in-place make/unmake moves without combat copies.
+ * Combat groups are independent, so each move re-calculates one group only. Identical blockers are
+ * interchangeable, so search checks only one order of them (e.g. board with tokens).
+ * <p>
+ * Search is exhaustive for small boards and pruned by nodes limit for big boards (keeps best found result).
+ */
+public class CombatBlockSimulator {
+
+    private static final int MAX_SEARCH_NODES = 100000;
+
+    private static final int FIRST_STRIKE = 1;
+    private static final int DOUBLE_STRIKE = 1 << 1;
+    private static final int TRAMPLE = 1 << 2;
+
+    private static final int NO_BLOCK = -1;
+
+    private final CombatSimulator combat;
+
+    // creatures (attackers, then already declared blockers, then possible blockers)
+    private final int[] power;
+    private final int[] toughness;
+    private final int[] startDamage;
+    private final int[] lethalThreshold;
+    private final int[] keywords;
+    private final int[] damage; // combat simulation result
+
+    // groups
+    private final int[] groupAttacker;
+    private final int[] groupKeywords; // all attackers of the group
+    private final int[][] groupBlockers; // damage assignment order
+    private final int[] groupBlockersCount;
+    private final int[] groupDefender;
+    private final int[] groupRating;
+    private final int[] groupUnblockedDamage;
+
+    // defenders
+    private final int[] defenderLife; // players only
+    private final boolean[] defenderIsPlayer;
+    private final int[] defenderDamage;
+
+    // possible blockers
+    private final CreatureSimulator[] possibleBlockers;
+    private final int firstPossibleBlocker; // creature index
+    private final boolean[][] canBlock;
+    private final boolean[] sameAsPrevious; // interchangeable with previous blocker
+    private final int[] choice;
+    private final int[] bestChoice;
+
+    private int ratingSum = 0;
+    private int bestRating = Integer.MAX_VALUE;
+    private int nodes = 0;
+
+    public CombatBlockSimulator(CombatSimulator combat, List<Permanent> blockers, Game game) {
+        this.combat = combat;
+        int groupsCount = combat.groups.size();
+
+        // all creatures
+        List<CreatureSimulator> creatures = new ArrayList<>();
+        this.groupAttacker = new int[groupsCount];
+        this.groupKeywords = new int[groupsCount];
+        this.groupBlockers = new int[groupsCount][];
+        this.groupBlockersCount = new int[groupsCount];
+        this.groupDefender = new int[groupsCount];
+        this.groupRating = new int[groupsCount];
+        this.groupUnblockedDamage = new int[groupsCount];
+        for (int g = 0; g < groupsCount; g++) {
+            this.groupAttacker[g] = creatures.size();
+            creatures.add(combat.groups.get(g).attackers.get(0)); // NOTE: assumes no banding
+            for (CreatureSimulator attacker : combat.groups.get(g).attackers) {
+                this.groupKeywords[g] |= makeKeywords(attacker);
+            }
+        }
+        for (int g = 0; g < groupsCount; g++) {
+            List<CreatureSimulator> declaredBlockers = combat.groups.get(g).blockers;
+            this.groupBlockers[g] = new int[declaredBlockers.size() + blockers.size()];
+            for (CreatureSimulator blocker : declaredBlockers) {
+                this.groupBlockers[g][this.groupBlockersCount[g]++] = creatures.size();
+                creatures.add(blocker);
+            }
+        }
+        this.firstPossibleBlocker = creatures.size();
+        List<CreatureSimulator> blockerCreatures = new ArrayList<>();
+        List<boolean[]> blockerOptions = new ArrayList<>();
+        for (Permanent blocker : blockers) {
+            blockerCreatures.add(new CreatureSimulator(blocker));
+            boolean[] options = new boolean[groupsCount];
+            for (int g = 0; g < groupsCount; g++) {
+                options[g] = combat.groups.get(g).canBlock(blocker, game);
+            }
+            blockerOptions.add(options);
+        }
+        int[] order = sortIdenticalBlockers(blockerCreatures, blockerOptions, game);
+        this.possibleBlockers = new CreatureSimulator[order.length];
+        this.canBlock = new boolean[order.length][];
+        for (int b = 0; b < order.length; b++) {
+            this.possibleBlockers[b] = blockerCreatures.get(order[b]);
+            this.canBlock[b] = blockerOptions.get(order[b]);
+        }
+        creatures.addAll(Arrays.asList(this.possibleBlockers));
+
+        int creaturesCount = creatures.size();
+        this.power = new int[creaturesCount];
+        this.toughness = new int[creaturesCount];
+        this.startDamage = new int[creaturesCount];
+        this.lethalThreshold = new int[creaturesCount];
+        this.keywords = new int[creaturesCount];
+        this.damage = new int[creaturesCount];
+        for (int i = 0; i < creaturesCount; i++) {
+            CreatureSimulator creature = creatures.get(i);
+            this.power[i] = creature.power;
+            this.toughness[i] = creature.toughness;
+            this.startDamage[i] = creature.damage;
+            this.lethalThreshold[i] = creature.getLethalDamageThreshold(game);
+            this.keywords[i] = makeKeywords(creature);
+        }
+
+        // possible blockers
+        int blockersCount = this.possibleBlockers.length;
+        this.sameAsPrevious = new boolean[blockersCount];
+        this.choice = new int[blockersCount];
+        this.bestChoice = new int[blockersCount];
+        for (int b = 0; b < blockersCount; b++) {
+            this.sameAsPrevious[b] = b > 0 && isSameBlocker(b - 1, b);
+        }
+        Arrays.fill(this.choice, NO_BLOCK);
+        Arrays.fill(this.bestChoice, NO_BLOCK);
+
+        // defenders
+        List<UUID> defenders = new ArrayList<>();
+        for (int g = 0; g < groupsCount; g++) {
+            UUID defenderId = combat.groups.get(g).defenderId;
+            if (!defenders.contains(defenderId)) {
+                defenders.add(defenderId);
+            }
+            this.groupDefender[g] = defenders.indexOf(defenderId);
+        }
+        this.defenderLife = new int[defenders.size()];
+        this.defenderIsPlayer = new boolean[defenders.size()];
+        this.defenderDamage = new int[defenders.size()];
+        for (int d = 0; d < defenders.size(); d++) {
+            Integer life = combat.playersLife.get(defenders.get(d));
+            this.defenderIsPlayer[d] = life != null;
+            this.defenderLife[d] = life == null ? 0 : life;
+        }
+
+        // start position (declared blockers only)
+        for (int g = 0; g < groupsCount; g++) {
+            simulateGroup(g);
+            this.ratingSum += this.groupRating[g];
+            this.defenderDamage[this.groupDefender[g]] += this.groupUnblockedDamage[g];
+        }
+    }
+
+    private static int makeKeywords(CreatureSimulator creature) {
+        return (creature.hasFirstStrike ? FIRST_STRIKE : 0)
+                | (creature.hasDoubleStrike ? DOUBLE_STRIKE : 0)
+                | (creature.hasTrample ? TRAMPLE : 0);
+    }
+
+    /**
+     * Identical blockers must be neighbours for search (keeps first usage order)
+     *
+     * @return blockers order
+     */
+    private static int[] sortIdenticalBlockers(List<CreatureSimulator> blockers, List<boolean[]> options, Game game) {
+        Map<String, List<Integer>> sameBlockers = new LinkedHashMap<>();
+        for (int i = 0; i < blockers.size(); i++) {
+            CreatureSimulator creature = blockers.get(i);
+            String key = creature.power
+                    + "," + creature.toughness
+                    + "," + creature.damage
+                    + "," + creature.getLethalDamageThreshold(game)
+                    + "," + makeKeywords(creature)
+                    + "," + Arrays.toString(options.get(i));
+            sameBlockers.computeIfAbsent(key, x -> new ArrayList<>()).add(i);
+        }
+        return sameBlockers.values().stream()
+                .flatMap(Collection::stream)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private boolean isSameBlocker(int blocker1, int blocker2) {
+        int creature1 = firstPossibleBlocker + blocker1;
+        int creature2 = firstPossibleBlocker + blocker2;
+        return power[creature1] == power[creature2]
+                && toughness[creature1] == toughness[creature2]
+                && startDamage[creature1] == startDamage[creature2]
+                && lethalThreshold[creature1] == lethalThreshold[creature2]
+                && keywords[creature1] == keywords[creature2]
+                && Arrays.equals(canBlock[blocker1], canBlock[blocker2]);
+    }
+
+    /**
+     * Find best blockers and add it to the combat
+     *
+     * @return simulated combat with best blockers
+     */
+    public CombatSimulator simulateBestBlock(Game game) {
+        search(0);
+        for (int b = 0; b < possibleBlockers.length; b++) {
+            if (bestChoice[b] != NO_BLOCK) {
+                combat.groups.get(bestChoice[b]).blockers.add(possibleBlockers[b]);
+            }
+        }
+        combat.simulate(game);
+        return combat;
+    }
+
+    private void search(int fromBlocker) {
+        nodes++;
+        int rating = getRating();
+        if (rating < bestRating) {
+            bestRating = rating;
+            System.arraycopy(choice, 0, bestChoice, 0, choice.length);
+        }
+
+        for (int b = fromBlocker; b < possibleBlockers.length; b++) {
+            // identical blockers: use it in same order only (other orders give same combat)
+            int minGroup = 0;
+            if (sameAsPrevious[b]) {
+                if (choice[b - 1] == NO_BLOCK) {
+                    continue;
+                }
+                minGroup = choice[b - 1];
+            }
+            for (int g = minGroup; g < groupAttacker.length; g++) {
+                if (bestRating == 0 || nodes >= MAX_SEARCH_NODES) {
+                    // best possible result or too big board
+                    return;
+                }
+                if (!canBlock[b][g]) {
+                    continue;
+                }
+                makeBlock(b, g);
+                search(b + 1);
+                unmakeBlock(b, g);
+            }
+        }
+    }
+
+    private void makeBlock(int blocker, int group) {
+        choice[blocker] = group;
+        groupBlockers[group][groupBlockersCount[group]++] = firstPossibleBlocker + blocker;
+        updateGroup(group);
+    }
+
+    private void unmakeBlock(int blocker, int group) {
+        choice[blocker] = NO_BLOCK;
+        groupBlockersCount[group]--;
+        updateGroup(group);
+    }
+
+    private void updateGroup(int group) {
+        ratingSum -= groupRating[group];
+        defenderDamage[groupDefender[group]] -= groupUnblockedDamage[group];
+        simulateGroup(group);
+        ratingSum += groupRating[group];
+        defenderDamage[groupDefender[group]] += groupUnblockedDamage[group];
+    }
+
+    /**
+     * Same as CombatSimulator.evaluate
+     */
+    private int getRating() {
+        for (int d = 0; d < defenderLife.length; d++) {
+            if (defenderIsPlayer[d] && defenderLife[d] <= defenderDamage[d]) {
+                return Integer.MAX_VALUE;
+            }
+        }
+        return ratingSum;
+    }
+
+    /**
+     * Same as CombatGroupSimulator.simulateCombat and evaluateCombat
+     */
+    private void simulateGroup(int group) {
+        int attacker = groupAttacker[group];
+        int[] blockers = groupBlockers[group];
+        int blockersCount = groupBlockersCount[group];
+
+        boolean hasFirstStrike = (groupKeywords[group] & (FIRST_STRIKE | DOUBLE_STRIKE)) > 0;
+        damage[attacker] = startDamage[attacker];
+        for (int i = 0; i < blockersCount; i++) {
+            damage[blockers[i]] = startDamage[blockers[i]];
+            hasFirstStrike |= (keywords[blockers[i]] & (FIRST_STRIKE | DOUBLE_STRIKE)) > 0;
+        }
+
+        int unblockedDamage = 0;
+        if (hasFirstStrike) {
+            unblockedDamage += assignDamage(attacker, blockers, blockersCount, true);
+        }
+        unblockedDamage += assignDamage(attacker, blockers, blockersCount, false);
+        groupUnblockedDamage[group] = unblockedDamage;
+
+        int survivingBlockers = 0;
+        for (int i = 0; i < blockersCount; i++) {
+            if (damage[blockers[i]] < toughness[blockers[i]]) {
+                survivingBlockers++;
+            }
+        }
+        if (damage[attacker] >= toughness[attacker]) {
+            groupRating[group] = survivingBlockers > 0 ? 0 : 2;
+        } else {
+            groupRating[group] = survivingBlockers > 0 ? 1 : 3;
+        }
+    }
+
+    private int assignDamage(int attacker, int[] blockers, int blockersCount, boolean first) {
+        int unblockedDamage = 0;
+        if (blockersCount == 0) {
+            if (canDamage(attacker, first)) {
+                unblockedDamage += power[attacker];
+            }
+            return unblockedDamage;
+        }
+
+        int attackerDamage = power[attacker];
+        for (int i = 0; i < blockersCount; i++) {
+            int blocker = blockers[i];
+            if (attackerDamage > 0 && canDamage(attacker, first)) {
+                int lethalDamage = getLethalDamage(blocker);
+                if (attackerDamage > lethalDamage) {
+                    damage[blocker] += lethalDamage;
+                    attackerDamage -= lethalDamage;
+                } else {
+                    damage[blocker] += attackerDamage;
+                    attackerDamage = 0;
+                }
+            }
+            if (canDamage(blocker, first)) {
+                damage[attacker] += power[blocker];
+            }
+        }
+        if (attackerDamage > 0 && canDamage(attacker, first)) {
+            if ((keywords[attacker] & TRAMPLE) > 0) {
+                unblockedDamage += attackerDamage;
+            } else {
+                damage[blockers[0]] += attackerDamage;
+            }
+        }
+        return unblockedDamage;
+    }
+
+    private int getLethalDamage(int creature) {
+        return Math.max(lethalThreshold[creature] - damage[creature], 0);
+    }
+
+    private boolean canDamage(int creature, boolean first) {
+        boolean hasFirstStrike = (keywords[creature] & FIRST_STRIKE) > 0;
+        boolean hasDoubleStrike = (keywords[creature] & DOUBLE_STRIKE) > 0;
+        if (first) {
+            return hasFirstStrike || hasDoubleStrike;
+        } else {
+            return !hasFirstStrike || hasDoubleStrike;
+        }
+    }
+}
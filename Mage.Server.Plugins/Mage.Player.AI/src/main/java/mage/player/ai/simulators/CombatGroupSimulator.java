@@ -63,24 +63,6 @@ public class CombatGroupSimulator implements Serializable {
             if (canDamage(attacker, first))
                 unblockedDamage += attacker.power;
         }
-        else if (blockers.size() == 1) {
-            CreatureSimulator blocker = blockers.get(0);
-            if (canDamage(attacker, first)) {
-                if (attacker.hasTrample) {
-                    int lethalDamage = blocker.getLethalDamage(game);
-                    if (attacker.power > lethalDamage) {
-                        blocker.damage += lethalDamage;
-                        unblockedDamage += attacker.power - lethalDamage;
-                    }
-                    else {
-                        blocker.damage += attacker.power;
-                    }
-                }
-            }
-            if (canDamage(blocker, first)) {
-                attacker.damage += blocker.power;
-            }
-        }
         else {
             int damage = attacker.power;
             for (CreatureSimulator blocker: blockers) {
@@ -99,7 +81,7 @@ public class CombatGroupSimulator implements Serializable {
                     attacker.damage += blocker.power;
                 }
             }
-            if (damage > 0) {
+            if (damage > 0 && canDamage(attacker, first)) {
                 if (attacker.hasTrample) {
                     unblockedDamage += damage;
                 }
@@ -41,6 +41,10 @@ public class CreatureSimulator implements Serializable {
     }
 
     public int getLethalDamage(Game game) {
+        return Math.max(getLethalDamageThreshold(game) - damage, 0);
+    }
+
+    public int getLethalDamageThreshold(Game game) {
         List<FilterCreaturePermanent> usePowerInsteadOfToughnessForDamageLethalityFilters = game.getState().getActivePowerInsteadOfToughnessForDamageLethalityFilters();
         /*
          * for handling Zilortha, Strength Incarnate:
@@ -49,9 +53,8 @@ public class CreatureSimulator implements Serializable {
          */
         boolean usePowerInsteadOfToughnessForDamageLethality = usePowerInsteadOfToughnessForDamageLethalityFilters.stream()
                 .anyMatch(filter -> filter.match(permanent, game));
-        int lethalDamageThreshold = usePowerInsteadOfToughnessForDamageLethality ?
+        return usePowerInsteadOfToughnessForDamageLethality ?
                 // Zilortha, Strength Incarnate, 2020-04-17: A creature with 0 power isn’t destroyed unless it has at least 1 damage marked on it.
                 Math.max(power, 1) : toughness;
-        return Math.max(lethalDamageThreshold - damage, 0);
     }
 }
@@ -12,12 +12,14 @@ import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
 import mage.player.ai.MCTSPlayer.NextAction;
 import mage.players.Player;
+import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.*;
 
@@ -30,8 +32,10 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    private static final int THINK_TIME_STOP_DELAY_SECS = 1; // wait for last simulations before tree usage
 
     protected transient MCTSNode root;
+    protected int rootTurnNum; // tree can be reused for next decisions in the same turn only
     protected int maxThinkTime;
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
     private int poolSize;
@@ -93,6 +97,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
             MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
             player.setNextAction(action);
             root = new MCTSNode(playerId, sim);
+            rootTurnNum = game.getTurnNum();
         }
         applyMCTS(game, action);
         if (root != null && root.bestChild() != null) {
@@ -102,6 +107,10 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     }
 
     protected void getNextAction(Game game, NextAction nextAction) {
+        if (root != null && rootTurnNum != game.getTurnNum()) {
+            // old turn's tree can't contain current state
+            root = null;
+        }
         if (root != null) {
             MCTSNode newRoot;
             newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
@@ -177,17 +186,16 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                     );
                 }
 
+                // all threads use same tree (reused from prev decisions), executors stop by think time
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
+                    // each thread uses own random from game's random (reproducible by game's seed)
+                    MCTSExecutor exec = new MCTSExecutor(root, playerId, thinkTime, new Random(RandomUtil.nextLong()));
                     tasks.add(exec);
                 }
 
                 try {
-                    List<Future<Boolean>> runningTasks = threadPoolSimulations.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
+                    List<Future<Boolean>> runningTasks = threadPoolSimulations.invokeAll(tasks, thinkTime + THINK_TIME_STOP_DELAY_SECS, TimeUnit.SECONDS);
                     for (Future<Boolean> runningTask : runningTasks) {
                         runningTask.get();
                     }
@@ -204,7 +212,6 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                 int simCount = 0;
                 for (MCTSExecutor task : tasks) {
                     simCount += task.getSimCount();
-                    root.merge(task.getRoot());
                     task.clear();
                 }
                 tasks.clear();
@@ -296,7 +303,8 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
      * @return a new game object with simulated players
      */
     protected Game createMCTSGame(Game game) {
-        Game mcts = game.createSimulationForAI();
+        // root can be reused for next decisions (see getNextAction), so it must not share cards with the real game
+        Game mcts = game.createFullSimulationForAI();
 
         for (Player copyPlayer : mcts.getState().getPlayers().values()) {
             Player origPlayer = game.getState().getPlayers().get(copyPlayer.getId());
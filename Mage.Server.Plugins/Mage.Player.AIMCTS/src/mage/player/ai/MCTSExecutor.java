@@ -1,12 +1,15 @@
 
 package mage.player.ai;
 
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Callable;
-import mage.game.Game;
+
+import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
 /**
+ * Simulations thread for shared tree: all executors use same root (see virtual loss in MCTSNode.select)
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -16,22 +19,35 @@ public class MCTSExecutor implements Callable<Boolean> {
     protected int thinkTime;
     protected UUID playerId;
     protected int simCount;
+    protected Random random;
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    public MCTSExecutor(MCTSNode root, UUID playerId, int thinkTime, Random random) {
         this.playerId = playerId;
         this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.root = root;
+        this.random = random;
     }
 
     @Override
     public Boolean call() {
+        // simulations in parallel threads must not share the random
+        Random prevRandom = RandomUtil.setContextRandom(random);
+        try {
+            return simulate();
+        } finally {
+            RandomUtil.setContextRandom(prevRandom);
+        }
+    }
+
+    private Boolean simulate() {
         simCount = 0;
         MCTSNode current;
 
-
-        while (true) {
+        // must stop by itself: shared tree will be changed after think time
+        long endTime = System.nanoTime() + (thinkTime * 1000000000L);
+        while (System.nanoTime() < endTime && !Thread.currentThread().isInterrupted()) {
             current = root;
 
             // Selection
@@ -62,6 +78,7 @@ public class MCTSExecutor implements Callable<Boolean> {
             // Backpropagation
             current.backpropagate(result);
         }
+        return true;
     }
 
     public MCTSNode getRoot() {
@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -32,10 +34,12 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
+    // tree can be shared between simulation threads, so stats are lock free and children list is thread safe
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicInteger wins = new AtomicInteger();
+    private final AtomicInteger virtualLosses = new AtomicInteger(); // selected by running simulations, but without result yet
     private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    private final List<MCTSNode> children = new CopyOnWriteArrayList<>();
     private Ability action;
     private Game game;
     private Combat combat;
@@ -45,7 +49,7 @@ public class MCTSNode {
     private boolean terminal = false;
     private UUID targetPlayer;
 
-    private static int nodeCount;
+    private static final AtomicInteger nodeCount = new AtomicInteger();
 
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
@@ -54,7 +58,7 @@ public class MCTSNode {
         this.fullStateValue = game.getState().getValue(true, game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
-        nodeCount = 1;
+        nodeCount.set(1);
 //        logger.info(this.stateValue);
     }    
 
@@ -67,7 +71,7 @@ public class MCTSNode {
         this.parent = parent;
         this.action = action;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -80,7 +84,7 @@ public class MCTSNode {
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -96,20 +100,30 @@ public class MCTSNode {
         }
     }
 
+    /**
+     * Select next node to simulate (UCT). Selected node gets virtual loss until backpropagate,
+     * so parallel threads will select other nodes from the shared tree.
+     */
     public MCTSNode select(UUID targetPlayerId) {
         double bestValue = Double.NEGATIVE_INFINITY;
         boolean isTarget = playerId.equals(targetPlayerId);
         MCTSNode bestChild = null;
         if (children.size() == 1) {
-            return children.get(0);
+            bestChild = children.get(0);
+            bestChild.virtualLosses.incrementAndGet();
+            return bestChild;
         }
+        int parentVisits = visits.get() + virtualLosses.get();
         for (MCTSNode node: children) {
+            // virtual loss: running simulations counted as lost for the target player
+            int nodeVisits = node.visits.get() + node.virtualLosses.get();
+            int nodeWins = node.wins.get();
             double uct;
-            if (node.visits > 0)
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (nodeVisits * 1.0)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeVisits - nodeWins) / (nodeVisits * 1.0)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * RandomUtil.nextDouble();
@@ -118,21 +132,36 @@ public class MCTSNode {
                 bestValue = uct;
             }
         }
+        if (bestChild != null) {
+            bestChild.virtualLosses.incrementAndGet();
+        }
         return bestChild;
     }
 
-    public void expand() {
+    public synchronized void expand() {
+        if (game == null) {
+            // already expanded by another thread
+            return;
+        }
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
         }
         children.addAll(MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateValue));
+        // node's game is never changed after children creation, so children's simulations can share its cards
         game = null;
     }
 
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            if (game == null) {
+                // expanded by another thread, so ignore that simulation
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -147,11 +176,15 @@ public class MCTSNode {
     }
 
     public void backpropagate(int result) {
-        if (result == 0)
-            return;
-        if (result == 1)
-            wins++;
-        visits++;
+        if (parent != null) {
+            // remove virtual loss from select
+            virtualLosses.decrementAndGet();
+        }
+        if (result != 0) {
+            if (result == 1)
+                wins.incrementAndGet();
+            visits.incrementAndGet();
+        }
         if (parent != null)
             parent.backpropagate(result);
     }
@@ -168,25 +201,27 @@ public class MCTSNode {
         boolean bestIsPass = false;
         MCTSNode bestChild = null;
         for (MCTSNode node: children) {
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
             //favour passing vs any other action except for playing land if ratio is close
-            if (node.visits > bestCount) {
+            if (nodeVisits > bestCount) {
                 if (bestIsPass) {
-                    double ratio = node.wins/(node.visits * 1.0);
+                    double ratio = nodeWins/(nodeVisits * 1.0);
                     if (ratio < bestRatio + passRatioTolerance)
                         continue;
                 }
                 bestChild = node;
-                bestCount = node.visits;
-                bestRatio = node.wins/(node.visits * 1.0);
+                bestCount = nodeVisits;
+                bestRatio = nodeWins/(nodeVisits * 1.0);
                 bestIsPass = false;
             }
-            else if (node.action instanceof PassAbility && node.visits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
+            else if (node.action instanceof PassAbility && nodeVisits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
                 //favour passing vs any other action if ratio is close
-                double ratio = node.wins/(node.visits * 1.0);
+                double ratio = nodeWins/(nodeVisits * 1.0);
                 if (ratio > bestRatio - passRatioTolerance) {
                     logger.info("choosing pass over " + bestChild.getAction());
                     bestChild = node;
-                    bestCount = node.visits;
+                    bestCount = nodeVisits;
                     bestRatio = ratio;
                     bestIsPass = true;
                 }
@@ -219,7 +254,7 @@ public class MCTSNode {
     }
 
     public int getNodeCount() {
-        return nodeCount;
+        return nodeCount.get();
     }
 
     public String getStateValue() {
@@ -227,13 +262,14 @@ public class MCTSNode {
     }
 
     public double getWinRatio() {
-        if (visits > 0)
-            return wins/(visits * 1.0);
+        int nodeVisits = visits.get();
+        if (nodeVisits > 0)
+            return wins.get()/(nodeVisits * 1.0);
         return -1.0;
     }
 
     public int getVisits() {
-        return visits;
+        return visits.get();
     }
 
     /**
@@ -315,63 +351,6 @@ public class MCTSNode {
         return null;
     }
 
-    public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
-            logger.info("mismatched merge states at root");
-            return;
-        }
-
-        this.visits += merge.visits;
-        this.wins += merge.wins;
-        int mismatchCount = 0;
-        
-        List<MCTSNode> mergeChildren = new ArrayList<>();
-        for (MCTSNode child: merge.children) {
-            mergeChildren.add(child);
-        }
-
-        for (MCTSNode child: children) {
-            for (MCTSNode mergeChild: mergeChildren) {
-                if (mergeChild.action != null && child.action != null) {
-                    if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-                else {
-                    if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-            }
-        }
-        if (!mergeChildren.isEmpty()) {
-            for (MCTSNode child: mergeChildren) {
-                child.parent = this;
-                children.add(child);
-            }
-        }
-//        if (mismatchCount > 0)
-//            logger.info("mismatched merge states: " + mismatchCount);
-    }
-
 //    public void print(int depth) {
 //        String indent = String.format("%1$-" + depth + "s", "");
 //        StringBuilder sb = new StringBuilder();
@@ -6,6 +6,9 @@ import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Network: server side data for waiting a user's response like new choice
@@ -14,7 +17,8 @@ import java.util.UUID;
  * - one response object per user;
  * - support multiple data types;
  * - waiting and writing response on diff threads;
- * - start by response.wait (game thread) and end by response.notifyAll (network/call thread)
+ * - start by response.waitChanges (game thread) and end by response.applyChanges (network/call thread)
+ * - uses lock instead synchronized, so waiting game can release virtual thread's carrier (see VirtualThreadExecutor)
  * - user's request can income in diff order, so only one latest response allowed (except async commands like concede and cheat)
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -38,6 +42,10 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
     private Boolean asyncWantConcede;
     private Boolean asyncWantCheat;
 
+    // threads sync (game thread waiting changes from network thread)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
     public PlayerResponse() {
         clear();
     }
@@ -59,6 +67,43 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
         this.copyFrom(response);
     }
 
+    /**
+     * Game thread: wait until response changes by another thread (see applyChanges)
+     */
+    public void waitChanges() throws InterruptedException {
+        lock.lock();
+        try {
+            changed.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Network thread: change response data and wake up waiting game thread
+     *
+     * @param wakeUp false to keep game waiting (e.g. signals to process on next priority)
+     */
+    public void applyChanges(Consumer<PlayerResponse> changes, boolean wakeUp) {
+        lock.lock();
+        try {
+            changes.accept(this);
+            if (wakeUp) {
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wake up waiting game thread without data changes (e.g. cancel waiting)
+     */
+    public void wakeUp() {
+        applyChanges(r -> {
+        }, true);
+    }
+
     @Override
     public PlayerResponse copy() {
         return new PlayerResponse(this);
@@ -5,6 +5,7 @@ import mage.cards.RateCard;
 import mage.cards.Sets;
 import mage.cards.decks.DeckValidatorFactory;
 import mage.cards.repository.*;
+import mage.game.GameStates;
 import mage.game.match.MatchType;
 import mage.game.tournament.TournamentType;
 import mage.interfaces.MageServer;
@@ -12,9 +13,11 @@ import mage.remote.Connection;
 import mage.remote.SessionImpl;
 import mage.server.draft.CubeFactory;
 import mage.server.game.GameFactory;
+import mage.server.game.GameReplayWriter;
 import mage.server.game.PlayerFactory;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
+import mage.server.record.TableRecorderImpl;
 import mage.server.record.UserStatsRepository;
 import mage.server.tournament.TournamentFactory;
 import mage.server.util.ConfigFactory;
@@ -23,6 +26,7 @@ import mage.server.util.PluginClassLoader;
 import mage.server.util.ServerMessagesUtil;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
+import mage.util.Copier;
 import mage.utils.MageVersion;
 import mage.utils.SystemUtil;
 import org.apache.log4j.Logger;
@@ -201,6 +205,10 @@ public final class Main {
         logger.info("Done.");
         deleteSavedGames();
 
+        // game objects deserialization must find plugin classes too (e.g. compressed game states)
+        Copier.setLoader(classLoader);
+        GameStates.setDefaultMaxUncompressedStates(config.getMaxUncompressedGameStates());
+
         int gameTypes = 0;
         for (GamePlugin plugin : config.getGameTypes()) {
             gameTypes++;
@@ -255,6 +263,7 @@ public final class Main {
         logger.info("Config - max pswrd length: " + config.getMaxPasswordLength());
         logger.info("Config - inv.usr name pat: " + config.getInvalidUserNamePattern());
         logger.info("Config - save game active: " + (config.isSaveGameActivated() ? "true" : "false"));
+        logger.info("Config - uncompr. states : " + config.getMaxUncompressedGameStates());
         logger.info("Config - backlog size    : " + config.getBacklogSize());
         logger.info("Config - lease period    : " + config.getLeasePeriod());
         logger.info("Config - sock wrt timeout: " + config.getSocketWriteTimeout());
@@ -299,6 +308,9 @@ public final class Main {
                 server.start();
                 logger.info("Started MAGE server - listening on " + connection.toString());
 
+                // queued writes must be saved before exit
+                Runtime.getRuntime().addShutdownHook(new Thread(Main::waitPendingWrites, "SERVER SHUTDOWN"));
+
                 if (testMode) {
                     logger.info("MAGE server running in test mode");
                 }
@@ -311,6 +323,12 @@ public final class Main {
         }
     }
 
+    static void waitPendingWrites() {
+        logger.info("Server shutdown: waiting pending writes");
+        TableRecorderImpl.waitPendingWrites();
+        GameReplayWriter.waitPendingWrites();
+    }
+
     static void initStatistics() {
         ServerMessagesUtil.instance.setStartDate(System.currentTimeMillis());
     }
@@ -549,7 +567,7 @@ public final class Main {
             directory.mkdirs();
         }
         File[] files = directory.listFiles(
-                (dir, name) -> name.endsWith(".game")
+                (dir, name) -> name.endsWith(".game") || name.endsWith(".replay")
         );
         if (files != null) {
             for (File file : files) {
@@ -19,7 +19,6 @@ import org.jboss.remoting.callback.HandleCallbackException;
 import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -69,11 +68,17 @@ public class Session {
     private final Date timeConnected;
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private volatile boolean valid = true;
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
-    private String lastCallbackInfo = "";
+    private volatile String lastCallbackInfo = "";
+
+    // outbound commands queue (see fireCallback), slow client will be disconnected on queue overflow
+    private static final int CALLBACK_QUEUE_MAX_SIZE = 1000;
+    private final Deque<ClientCallback> callbackQueue = new ArrayDeque<>();
+    private boolean callbackSending = false;
+    private int callbackQueueMaxSize = 0; // back-pressure stats
+    private long callbacksCoalesced = 0;
 
     public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
         this.managerFactory = managerFactory;
@@ -82,7 +87,6 @@ public class Session {
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
     }
 
     public String registerUser(String userName, String password, String email) {
@@ -427,31 +431,81 @@ public class Session {
 
     /**
      * Send event/command to the client
+     * <p>
+     * Commands go to the session's queue and send by callback thread in same order, so game threads don't wait
+     * for slow clients. Full game update replaces the previous not sent update of the same game (delta update
+     * can't do it, client needs the previous view as delta base).
      */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false; // TODO: research about locks, why it here? 2023-12-06
+        if (!valid) {
+            return;
+        }
 
-        try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
-                lastCallbackInfo = call.getInfo();
-                call.setMessageId(messageId.incrementAndGet());
-                lockSet = true;
-                Callback callback = new Callback(call);
-                boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
-                        && call.getMethod().getType().canComeInAnyOrder();
-                callbackHandler.handleCallbackOneway(callback, sendAsync);
+        boolean needSender;
+        synchronized (callbackQueue) {
+            ClientCallback lastCall = callbackQueue.peekLast();
+            if (lastCall != null && isSupersededCallback(lastCall, call)) {
+                callbackQueue.pollLast();
+                callbacksCoalesced++;
             }
-        } catch (InterruptedException ex) {
-            // already sending another command (connection problem?)
-            // TODO: un-support multiple games/drafts at the same time?!?!?!?!
-            if (call.getMethod().equals(ClientCallbackMethod.GAME_INIT)
-                    || call.getMethod().equals(ClientCallbackMethod.START_GAME)) {
-                // it's ok, possible use cases:
-                // - user has connection problem so can't send game init (see sendInfoAboutPlayersNotJoinedYetAndTryToFixIt)
+            if (callbackQueue.size() >= CALLBACK_QUEUE_MAX_SIZE) {
+                // client can't receive data so long, so it must reconnect
+                callbackQueue.clear();
+                needSender = false;
+                this.valid = false;
             } else {
-                logger.warn("SESSION LOCK, possible connection problem - fireCallback - userId: "
-                        + userId + ", prev call: " + lastCallbackInfo + ", current call: " + call.getInfo(), ex);
+                callbackQueue.addLast(call);
+                callbackQueueMaxSize = Math.max(callbackQueueMaxSize, callbackQueue.size());
+                needSender = !callbackSending;
+                callbackSending = true;
+            }
+        }
+
+        if (!valid) {
+            logger.warn("SESSION CALLBACK QUEUE OVERFLOW, possible connection problem - userId: "
+                    + userId + ", prev call: " + lastCallbackInfo + ", current call: " + call.getInfo());
+            managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
+            return;
+        }
+
+        if (needSender) {
+            managerFactory.threadExecutor().getCallbackExecutor().execute(this::sendCallbacks);
+        }
+    }
+
+    private static boolean isSupersededCallback(ClientCallback oldCall, ClientCallback newCall) {
+        return newCall.isSelfContained()
+                && oldCall.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                && newCall.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                && Objects.equals(oldCall.getObjectId(), newCall.getObjectId());
+    }
+
+    private void sendCallbacks() {
+        while (true) {
+            ClientCallback call;
+            synchronized (callbackQueue) {
+                call = callbackQueue.pollFirst();
+                if (call == null) {
+                    callbackSending = false;
+                    return;
+                }
             }
+            sendCallback(call);
+        }
+    }
+
+    private void sendCallback(final ClientCallback call) {
+        if (!valid) {
+            return;
+        }
+
+        try {
+            lastCallbackInfo = call.getInfo();
+            call.setMessageId(messageId.incrementAndGet());
+            Callback callback = new Callback(call);
+            boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
+                    && call.getMethod().getType().canComeInAnyOrder();
+            callbackHandler.handleCallbackOneway(callback, sendAsync);
         } catch (HandleCallbackException ex) {
             // general error
             // can raise on server freeze or normal connection problem from a client side
@@ -467,10 +521,24 @@ public class Session {
             // do not send data anymore (user must reconnect)
             this.valid = false;
             managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
-            }
+        }
+    }
+
+    public int getCallbackQueueSize() {
+        synchronized (callbackQueue) {
+            return callbackQueue.size();
+        }
+    }
+
+    public int getCallbackQueueMaxSize() {
+        synchronized (callbackQueue) {
+            return callbackQueueMaxSize;
+        }
+    }
+
+    public long getCallbacksCoalesced() {
+        synchronized (callbackQueue) {
+            return callbacksCoalesced;
         }
     }
 
@@ -21,6 +21,8 @@ public class SessionManagerImpl implements SessionManager {
 
     private static final Logger logger = Logger.getLogger(SessionManagerImpl.class);
 
+    private static final int CALLBACK_QUEUE_WARNING_SIZE = 100; // report slow clients in health check
+
     private final ManagerFactory managerFactory;
     private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
 
@@ -215,5 +217,19 @@ public class SessionManagerImpl implements SessionManager {
     public void checkHealth() {
         //logger.info("Checking sessions...");
         // TODO: add lone sessions check and report (with lost user)
+
+        // outbound commands back-pressure (slow clients)
+        Session slowestSession = null;
+        for (Session session : sessions.values()) {
+            if (slowestSession == null || session.getCallbackQueueMaxSize() > slowestSession.getCallbackQueueMaxSize()) {
+                slowestSession = session;
+            }
+        }
+        if (slowestSession != null && slowestSession.getCallbackQueueMaxSize() >= CALLBACK_QUEUE_WARNING_SIZE) {
+            logger.warn("Slow client connection: userId " + slowestSession.getUserId()
+                    + ", queued commands " + slowestSession.getCallbackQueueSize()
+                    + ", max queued commands " + slowestSession.getCallbackQueueMaxSize()
+                    + ", skipped game updates " + slowestSession.getCallbacksCoalesced());
+        }
     }
 }
@@ -359,12 +359,10 @@ public class UserManagerImpl implements UserManager {
     }
 
     @Override
-    public void updateUserHistory() {
-        USER_EXECUTOR.execute(() -> {
-            for (String updatedUser : UserStatsRepository.instance.updateUserStats()) {
-                getUserByName(updatedUser).ifPresent(User::resetUserStats);
-            }
-        });
+    public void resetUserStats(List<String> userNames) {
+        for (String userName : userNames) {
+            getUserByName(userName).ifPresent(User::resetUserStats);
+        }
     }
 
     @Override
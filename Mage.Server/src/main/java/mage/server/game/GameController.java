@@ -26,14 +26,13 @@ import mage.server.managers.ManagerFactory;
 import mage.util.MultiAmountMessage;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
-import mage.utils.StreamUtils;
 import mage.utils.timer.PriorityTimer;
 import mage.view.*;
 import mage.view.ChatMessage.MessageColor;
 import mage.view.ChatMessage.MessageType;
 import org.apache.log4j.Logger;
 
-import java.io.*;
+import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.*;
@@ -41,7 +40,6 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -78,6 +76,7 @@ public class GameController implements GameCallback {
     private Future<?> gameFuture;
     private boolean useResponseIdleTimeout = true; // control currently active player (if no response for 600 seconds then concede him)
     private final GameOptions gameOptions;
+    private final GameReplayWriter replayWriter; // save game mode only
 
     private UUID userRequestingRollback;
     private int turnsToRollback;
@@ -93,6 +92,12 @@ public class GameController implements GameCallback {
         this.userRequestingRollback = null;
         this.game = game;
         this.game.setSaveGame(managerFactory.configSettings().isSaveGameActivated());
+        if (this.game.isSaveGame()) {
+            this.replayWriter = new GameReplayWriter(game.getId());
+            this.game.setReplayRecorder(this.replayWriter);
+        } else {
+            this.replayWriter = null;
+        }
         this.tableId = tableId;
         this.choosingPlayerId = choosingPlayerId;
         this.gameOptions = gameOptions;
@@ -102,6 +107,9 @@ public class GameController implements GameCallback {
 
     public void cleanUp() {
         stopResponseIdleTimeout();
+        if (replayWriter != null) {
+            replayWriter.close();
+        }
         for (PriorityTimer priorityTimer : timers.values()) {
             priorityTimer.cancel();
         }
@@ -819,11 +827,13 @@ public class GameController implements GameCallback {
 
     private synchronized void updateGame() {
         updatePriorityTimers();
+        // all sessions use same game copy, so calc it once per update
+        GameSnapshot snapshot = new GameSnapshot(game);
         for (final GameSessionPlayer gameSession : getGameSessions()) {
-            gameSession.update();
+            gameSession.update(snapshot);
         }
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+            gameWatcher.update(snapshot);
         }
     }
 
@@ -912,14 +922,13 @@ public class GameController implements GameCallback {
             message.append(game.getTurnStepType().toString()).append(" - ");
         }
         message.append("Waiting for ").append(game.getPlayer(waitingPlayerId).getLogName());
+        GameSnapshot snapshot = new GameSnapshot(game);
         for (final Entry<UUID, GameSessionPlayer> entry : getGameSessionsMap().entrySet()) {
             if (!entry.getKey().equals(waitingPlayerId)) {
-                entry.getValue().inform(message.toString());
+                entry.getValue().inform(message.toString(), snapshot);
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message.toString());
-        }
+        informWatchers(message.toString(), snapshot);
     }
 
     private void informOthers(List<UUID> players) {
@@ -932,14 +941,19 @@ public class GameController implements GameCallback {
             return;
         }
         final String message = new StringBuilder(game.getTurnStepType().toString()).append(" - Waiting for ").append(controller.getName()).toString();
+        GameSnapshot snapshot = new GameSnapshot(game);
         for (final Entry<UUID, GameSessionPlayer> entry : getGameSessionsMap().entrySet()) {
             boolean skip = players.stream().anyMatch(playerId -> entry.getKey().equals(playerId));
             if (!skip) {
-                entry.getValue().inform(message);
+                entry.getValue().inform(message, snapshot);
             }
         }
+        informWatchers(message, snapshot);
+    }
+
+    private void informWatchers(final String message, GameSnapshot snapshot) {
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message);
+            watcher.inform(message, snapshot);
         }
     }
 
@@ -968,7 +982,8 @@ public class GameController implements GameCallback {
     }
 
     public synchronized GameView getGameView(UUID playerId) {
-        return getGameSession(playerId).getGameView();
+        // used for dialogs and requests, so no needs in delta history
+        return getGameSession(playerId).getGameViewWithoutHistory();
     }
 
     @Override
@@ -981,23 +996,12 @@ public class GameController implements GameCallback {
     }
 
     public boolean saveGame() {
-        OutputStream file = null;
-        ObjectOutput output = null;
-        OutputStream buffer = null;
-        try {
-            file = new FileOutputStream("saved/" + game.getId().toString() + ".game");
-            buffer = new BufferedOutputStream(file);
-            output = new ObjectOutputStream(new GZIPOutputStream(buffer));
-            output.writeObject(game);
-            output.writeObject(game.getGameStates());
+        if (replayWriter == null) {
+            return false;
+        }
+        if (replayWriter.finish(game)) {
             logger.debug("Saved game:" + game.getId());
             return true;
-        } catch (IOException ex) {
-            logger.fatal("Cannot save game.", ex);
-        } finally {
-            StreamUtils.closeQuietly(file);
-            StreamUtils.closeQuietly(output);
-            StreamUtils.closeQuietly(buffer);
         }
         return false;
     }
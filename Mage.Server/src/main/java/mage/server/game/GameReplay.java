@@ -2,22 +2,17 @@ package mage.server.game;
 
 import mage.game.Game;
 import mage.game.GameState;
-import mage.game.GameStates;
-import mage.server.Main;
-import mage.util.CopierObjectInputStream;
+import mage.util.Copier;
 import org.apache.log4j.Logger;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInput;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import java.util.zip.GZIPInputStream;
 
 /**
- * Replay system, outdated and not used. TODO: delete
+ * Replay system, reads states from replay file on demand (see GameReplayWriter for file format)
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -25,13 +20,15 @@ public class GameReplay {
 
     private static final Logger logger = Logger.getLogger(GameReplay.class);
 
-    private final GameStates savedGame;
+    private final UUID gameId;
+    private RandomAccessFile file;
+    private final List<Long> statesIndex = new ArrayList<>(); // file positions of the state records
     private final Game game;
     private int stateIndex;
 
     public GameReplay(UUID gameId) {
-        this.game = loadGame(gameId);
-        this.savedGame = game.getGameStates();
+        this.gameId = gameId;
+        this.game = loadGame();
     }
 
     public void start() {
@@ -39,15 +36,22 @@ public class GameReplay {
     }
 
     public GameState next() {
-        if (this.stateIndex < savedGame.getSize()) {
-            return savedGame.get(stateIndex++);
+        if (this.stateIndex < statesIndex.size()) {
+            return loadState(stateIndex++);
         }
         return null;
     }
 
+    /**
+     * Go forward without states loading
+     */
+    public void skip(int moves) {
+        this.stateIndex = Math.min(this.stateIndex + Math.max(moves, 0), statesIndex.size());
+    }
+
     public GameState previous() {
         if (this.stateIndex > 0) {
-            return savedGame.get(--stateIndex);
+            return loadState(--stateIndex);
         }
         return null;
     }
@@ -56,20 +60,70 @@ public class GameReplay {
         return this.game;
     }
 
-    private Game loadGame(UUID gameId) {
-        try (InputStream file = Files.newInputStream(Paths.get("saved/" + gameId.toString() + ".game"));
-             InputStream buffer = new BufferedInputStream(file);
-             InputStream gzip = new GZIPInputStream(buffer);
-             ObjectInput input = new CopierObjectInputStream(Main.classLoader, gzip)) {
-            Game loadGame = (Game) input.readObject();
-            GameStates states = (GameStates) input.readObject();
-            loadGame.loadGameStates(states);
-            return loadGame;
-        } catch (ClassNotFoundException e) {
-            logger.fatal("Cannot load game. Class not found.", e);
+    public void close() {
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                logger.error("Can't close replay file: " + gameId, e);
+            }
+            file = null;
+        }
+    }
+
+    /**
+     * Open replay file, make states index and load final game
+     */
+    private Game loadGame() {
+        try {
+            this.file = new RandomAccessFile(GameReplayWriter.getReplayFile(gameId).toFile(), "r");
+            if (file.readInt() != GameReplayWriter.REPLAY_FILE_MAGIC
+                    || file.readInt() != GameReplayWriter.REPLAY_FILE_VERSION) {
+                logger.fatal("Cannot load game: " + gameId + ", unknown replay file format");
+                close();
+                return null;
+            }
+            long gamePosition = -1;
+            while (file.getFilePointer() < file.length()) {
+                long position = file.getFilePointer();
+                byte type = file.readByte();
+                int size = file.readInt();
+                if (type == GameReplayWriter.RECORD_TYPE_STATE) {
+                    statesIndex.add(position);
+                } else if (type == GameReplayWriter.RECORD_TYPE_GAME) {
+                    gamePosition = position;
+                }
+                file.seek(file.getFilePointer() + size);
+            }
+            if (gamePosition < 0) {
+                logger.fatal("Cannot load game: " + gameId + ", replay file is not finished");
+                close();
+                return null;
+            }
+            return new Copier<Game>().uncompressCopy(readRecord(gamePosition));
         } catch (IOException e) {
-            logger.fatal("Cannot load game:" + gameId, e);
+            logger.fatal("Cannot load game: " + gameId, e);
+            close();
         }
         return null;
     }
+
+    private GameState loadState(int index) {
+        try {
+            return new Copier<GameState>().uncompressCopy(readRecord(statesIndex.get(index)));
+        } catch (IOException e) {
+            logger.fatal("Cannot load game state: " + gameId + ", state " + index, e);
+        }
+        return null;
+    }
+
+    private byte[] readRecord(long position) throws IOException {
+        if (file == null) {
+            throw new IOException("Replay file closed");
+        }
+        file.seek(position + 1); // skip record type
+        byte[] data = new byte[file.readInt()];
+        file.readFully(data);
+        return data;
+    }
 }
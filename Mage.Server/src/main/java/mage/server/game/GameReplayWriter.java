@@ -0,0 +1,179 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.game.GameReplayRecorder;
+import mage.game.GameState;
+import mage.util.Copier;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import mage.utils.StreamUtils;
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replay file writer for save game mode
+ * <p>
+ * Replay file is an append-only list of compressed records: game states on each priority and the final game at the end.
+ * Each state is a full snapshot, so replay can read any state by records index without loading the whole file
+ * (see GameReplay). Compress and file writes go to the shared writer thread, game thread makes state copies only.
+ * <p>
+ * Queued states are limited per game: if writer is too slow then new states of that game are dropped
+ * (state copies can't grow without limit in memory and game thread must not wait other games).
+ * Writer thread isn't daemon and server waits queued writes on shutdown.
+ * <p>
+ * File format: magic, version, records (type, data size, data)
+ */
+public class GameReplayWriter implements GameReplayRecorder {
+
+    private static final Logger logger = Logger.getLogger(GameReplayWriter.class);
+
+    static final int REPLAY_FILE_MAGIC = 0x584D5250; // XMRP
+    static final int REPLAY_FILE_VERSION = 1;
+    static final byte RECORD_TYPE_STATE = 1;
+    static final byte RECORD_TYPE_GAME = 2;
+
+    // one thread for all games, so replays can't slow down the server
+    private static final ExecutorService writerExecutor = makeWriterExecutor();
+
+    // max not written states per game, each one is a full game state copy
+    static final int MAX_PENDING_STATES = 20;
+
+    private final UUID gameId;
+    private final AtomicInteger pendingStates = new AtomicInteger();
+    private int droppedStates = 0; // game thread only
+    private DataOutputStream output = null; // writer thread only
+    private boolean stopped = false; // writer thread only, on errors or close
+    private volatile boolean closed = false;
+
+    public GameReplayWriter(UUID gameId) {
+        this.gameId = gameId;
+    }
+
+    private static ExecutorService makeWriterExecutor() {
+        // idle thread stops, so it keeps JVM alive until queued writes finished only
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_REPLAY_WRITER, false));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    static Path getReplayFile(UUID gameId) {
+        return Paths.get("saved/" + gameId.toString() + ".replay");
+    }
+
+    @Override
+    public void saveState(GameState state) {
+        if (closed) {
+            return;
+        }
+        if (pendingStates.get() >= MAX_PENDING_STATES) {
+            droppedStates++;
+            if (droppedStates == 1) {
+                logger.warn("Replay writer is too slow, game states will be skipped for game " + gameId);
+            }
+            return;
+        }
+        pendingStates.incrementAndGet();
+        writerExecutor.execute(() -> {
+            try {
+                writeRecord(RECORD_TYPE_STATE, new Copier<GameState>().copyCompressed(state));
+            } catch (RuntimeException e) {
+                logger.error("Can't save replay state for game " + gameId, e);
+            } finally {
+                pendingStates.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Write final game and close the replay (game object serializes in the current thread, so it can be changed later)
+     *
+     * @return false on game serialization errors
+     */
+    public boolean finish(Game game) {
+        if (closed) {
+            return false;
+        }
+        byte[] data = compressGame(game);
+        writerExecutor.execute(() -> writeRecord(RECORD_TYPE_GAME, data));
+        if (droppedStates > 0) {
+            logger.warn("Replay for game " + gameId + " skipped " + droppedStates + " game states");
+        }
+        close();
+        return data != null;
+    }
+
+    private byte[] compressGame(Game game) {
+        try {
+            return new Copier<Game>().copyCompressed(game);
+        } catch (RuntimeException e) {
+            logger.error("Can't save replay game for game " + gameId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Close replay without final game (e.g. on table remove), can be called multiple times
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writerExecutor.execute(() -> {
+            StreamUtils.closeQuietly(output);
+            output = null;
+            stopped = true;
+        });
+    }
+
+    /**
+     * Wait all queued writes from all games (e.g. for tests or server shutdown)
+     */
+    public static void waitPendingWrites() {
+        try {
+            writerExecutor.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Can't wait replay writes", e);
+        }
+    }
+
+    private void writeRecord(byte type, byte[] data) {
+        if (stopped) {
+            return;
+        }
+        if (data == null) {
+            logger.error("Can't save replay record for game " + gameId + ", type " + type);
+            return;
+        }
+        try {
+            if (output == null) {
+                output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getReplayFile(gameId).toFile())));
+                output.writeInt(REPLAY_FILE_MAGIC);
+                output.writeInt(REPLAY_FILE_VERSION);
+            }
+            output.writeByte(type);
+            output.writeInt(data.length);
+            output.write(data);
+            output.flush();
+        } catch (IOException | RuntimeException e) {
+            logger.fatal("Can't save replay for game " + gameId, e);
+            stopped = true;
+            StreamUtils.closeQuietly(output);
+            output = null;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import mage.cards.Cards;
 import mage.choices.Choice;
 import mage.constants.ManaType;
 import mage.constants.PlayerAction;
-import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.Table;
 import mage.interfaces.callback.ClientCallback;
@@ -196,8 +195,14 @@ public class GameSessionPlayer extends GameSessionWatcher {
     }
 
     @Override
-    public GameView getGameView() {
-        return prepareGameView(game, playerId, userId);
+    protected GameView makeGameView(GameSnapshot snapshot) {
+        return snapshot.makePlayerView(playerId, userId);
+    }
+
+    @Override
+    protected void prepareUpdateView(GameView gameView, GameSnapshot snapshot) {
+        // player's view contains private data, so it can't use shared fingerprints
+        viewHistory.prepareUpdateView(gameView);
     }
 
     /**
@@ -209,27 +214,10 @@ public class GameSessionPlayer extends GameSessionWatcher {
      * @return
      */
     public static GameView prepareGameView(Game game, UUID playerId, UUID userId) {
-        // game view calculation can take some time and can be called from non-game thread,
-        // so use copy for thread save (protection from ConcurrentModificationException)
-        Game sourceGame = game.copy();
-        GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
-
-        // playable info (if opponent under control then show opponent's playable)
-        Player player = sourceGame.getPlayer(playerId); // null for watcher
-        Player priorityPlayer = sourceGame.getPlayer(sourceGame.getPriorityPlayerId());
-        Player controllingPlayer = priorityPlayer == null ? null : sourceGame.getPlayer(priorityPlayer.getTurnControlledBy());
-        if (controllingPlayer != null && player == controllingPlayer) {
-            gameView.setCanPlayObjects(priorityPlayer.getPlayableObjects(sourceGame, Zone.ALL));
-        }
-
-        processControlledPlayers(sourceGame, player, gameView);
-        processWatchedHands(sourceGame, userId, gameView);
-        //TODO: should player who controls another player's turn be able to look at all these cards?
-
-        return gameView;
+        return new GameSnapshot(game).makePlayerView(playerId, userId);
     }
 
-    private static void processControlledPlayers(Game game, Player player, GameView gameView) {
+    static void processControlledPlayers(Game game, Player player, GameView gameView) {
         if (player == null) {
             // ignore watcher
             return;
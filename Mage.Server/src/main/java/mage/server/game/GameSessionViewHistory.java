@@ -0,0 +1,81 @@
+package mage.server.game;
+
+import mage.view.GameView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Network: history of sent game views for one game session (player or watcher)
+ * <p>
+ * Keeps fingerprints of players data from the last sent view (see ViewFingerprint), so next game update can be sent as delta
+ * (unchanged players will be restored on client side from the last received view, see GameView.restoreFromDelta).
+ * Client ignores delta with unknown base view, so server sends full view from time to time for resync.
+ */
+class GameSessionViewHistory {
+
+    private static final int FULL_VIEW_EVERY_UPDATES = 20; // resync after possible lost messages
+
+    private long lastVersion = 0;
+    private long[] lastPlayersData = null;
+    private int updatesWithoutFullView = 0;
+
+    /**
+     * Prepare full view before send (any messages with game view)
+     */
+    synchronized void prepareFullView(GameView gameView) {
+        prepareView(gameView, makeFingerprints(gameView), false);
+    }
+
+    /**
+     * Prepare game update before send (unchanged players data can be removed from the view)
+     */
+    synchronized void prepareUpdateView(GameView gameView) {
+        prepareView(gameView, makeFingerprints(gameView), true);
+    }
+
+    /**
+     * Prepare game update with already calculated players fingerprints (e.g. shared view for all watchers)
+     */
+    synchronized void prepareUpdateView(GameView gameView, long[] playersData) {
+        prepareView(gameView, playersData, true);
+    }
+
+    /**
+     * Client's data is unknown (e.g. game init after reconnect), so next update must be full
+     */
+    synchronized void reset() {
+        this.lastPlayersData = null;
+        this.updatesWithoutFullView = 0;
+    }
+
+    private void prepareView(GameView gameView, long[] playersData, boolean canUseDelta) {
+        if (canUseDelta
+                && this.lastPlayersData != null
+                && this.lastPlayersData.length == playersData.length
+                && this.updatesWithoutFullView < FULL_VIEW_EVERY_UPDATES) {
+            List<Integer> unchangedIndexes = new ArrayList<>();
+            for (int i = 0; i < playersData.length; i++) {
+                if (playersData[i] == this.lastPlayersData[i]) {
+                    unchangedIndexes.add(i);
+                }
+            }
+            gameView.makeDelta(this.lastVersion, unchangedIndexes);
+            this.updatesWithoutFullView++;
+        } else {
+            this.updatesWithoutFullView = 0;
+        }
+
+        this.lastVersion++;
+        gameView.setViewVersion(this.lastVersion);
+        this.lastPlayersData = playersData;
+    }
+
+    static long[] makeFingerprints(GameView gameView) {
+        long[] playersData = new long[gameView.getPlayers().size()];
+        for (int i = 0; i < playersData.length; i++) {
+            playersData[i] = ViewFingerprint.make(gameView.getPlayers().get(i));
+        }
+        return playersData;
+    }
+}
@@ -30,6 +30,7 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    protected final GameSessionViewHistory viewHistory = new GameSessionViewHistory(); // for delta updates
 
     public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer) {
         this.userManager = userManager;
@@ -44,6 +45,7 @@ public class GameSessionWatcher {
             if (user.isPresent()) {
                 // TODO: can be called outside of the game thread, e.g. user start watching already running game
                 //    possible fix: getGameView must use last cached value in non game thread call (split by sessions)
+                viewHistory.reset();
                 user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
                 return true;
             }
@@ -51,23 +53,39 @@ public class GameSessionWatcher {
         return false;
     }
 
-    public void update() {
+    /**
+     * Update by shared game snapshot (calculated once for all sessions)
+     */
+    void update(GameSnapshot snapshot) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            userManager.getUser(userId).ifPresent(user -> {
+                // send only changed data, see GameSessionViewHistory
+                GameView gameView = makeGameView(snapshot);
+                prepareUpdateView(gameView, snapshot);
+                ClientCallback callback = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), gameView);
+                callback.setSelfContained(!gameView.isDelta()); // delta can't replace its own base view in the queue
+                user.fireCallback(callback);
+            });
         }
-
     }
 
-    public void inform(final String message) {
+    /**
+     * Inform by shared game snapshot (calculated once for all sessions)
+     */
+    void inform(final String message, GameSnapshot snapshot) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
+            userManager.getUser(userId).ifPresent(user -> {
+                GameView gameView = makeGameView(snapshot);
+                viewHistory.prepareFullView(gameView);
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(gameView, null, message)));
+            });
         }
-
     }
 
     public void informPersonal(final String message) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), null, message))));
+            // client shows that message as dialog and don't keep the view, so it can't be used for delta updates
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(makeGameView(), null, message))));
         }
 
     }
@@ -98,16 +116,35 @@ public class GameSessionWatcher {
         killed = true;
     }
 
+    /**
+     * Full game view for the client (client will keep it as last game data, so it will be used as base for next delta update)
+     */
     public GameView getGameView() {
-        // game view calculation can take some time and can be called from non-game thread,
-        // so use copy for thread save (protection from ConcurrentModificationException)
-        Game sourceGame = game.copy();
-
-        GameView gameView = new GameView(sourceGame.getState(), sourceGame, null, userId);
-        processWatchedHands(sourceGame, userId, gameView);
+        GameView gameView = makeGameView();
+        viewHistory.prepareFullView(gameView);
         return gameView;
     }
 
+    /**
+     * Game view for dialogs and requests, client doesn't keep it as last game data (so it's not a base for delta updates)
+     */
+    public GameView getGameViewWithoutHistory() {
+        return makeGameView();
+    }
+
+    protected GameView makeGameView() {
+        return makeGameView(new GameSnapshot(game));
+    }
+
+    protected GameView makeGameView(GameSnapshot snapshot) {
+        return snapshot.makeWatcherView(userId);
+    }
+
+    protected void prepareUpdateView(GameView gameView, GameSnapshot snapshot) {
+        // watchers see same public data, so use shared fingerprints
+        viewHistory.prepareUpdateView(gameView, snapshot.getWatchersPlayersData());
+    }
+
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         gameView.getWatchedHands().clear();
         for (Player player : game.getPlayers().values()) {
@@ -0,0 +1,96 @@
+package mage.server.game;
+
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.players.PlayableObjectsList;
+import mage.players.Player;
+import mage.view.GameView;
+
+import java.util.UUID;
+
+/**
+ * Network: shared game snapshot for all sessions of the game (players and watchers)
+ * <p>
+ * Game view calculation can take some time and can be called from non-game thread, so it uses a game copy
+ * for thread safe (protection from ConcurrentModificationException). The copy is made once per game update
+ * instead of once per session, all sessions read data from it.
+ * <p>
+ * Shared data (including game copy) calculates on first usage and keeps until next update:
+ * - public view for watchers (each watcher gets a lightweight copy of it with personal data on top);
+ * - playable objects of the priority player (it's a heavy calculation with additional game simulation).
+ */
+class GameSnapshot {
+
+    private final Game game;
+    private Game sourceGame = null;
+
+    private GameView watchersView = null;
+    private long[] watchersPlayersData = null; // players fingerprints for delta updates
+    private boolean playableCalculated = false;
+    private PlayableObjectsList playableObjects = null;
+
+    GameSnapshot(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Player's view (if opponent under control then show opponent's playable)
+     *
+     * @param playerId null for watcher
+     * @param userId   can be null for tests
+     */
+    synchronized GameView makePlayerView(UUID playerId, UUID userId) {
+        Game sourceGame = getSourceGame();
+        GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
+
+        // playable info
+        Player player = sourceGame.getPlayer(playerId); // null for watcher
+        Player priorityPlayer = sourceGame.getPlayer(sourceGame.getPriorityPlayerId());
+        Player controllingPlayer = priorityPlayer == null ? null : sourceGame.getPlayer(priorityPlayer.getTurnControlledBy());
+        if (controllingPlayer != null && player == controllingPlayer) {
+            gameView.setCanPlayObjects(getPlayableObjects(priorityPlayer));
+        }
+
+        GameSessionPlayer.processControlledPlayers(sourceGame, player, gameView);
+        GameSessionWatcher.processWatchedHands(sourceGame, userId, gameView);
+        //TODO: should player who controls another player's turn be able to look at all these cards?
+
+        return gameView;
+    }
+
+    synchronized GameView makeWatcherView(UUID userId) {
+        GameView gameView = new GameView(getWatchersView());
+        GameSessionWatcher.processWatchedHands(getSourceGame(), userId, gameView);
+        return gameView;
+    }
+
+    synchronized long[] getWatchersPlayersData() {
+        if (this.watchersPlayersData == null) {
+            this.watchersPlayersData = GameSessionViewHistory.makeFingerprints(getWatchersView());
+        }
+        return this.watchersPlayersData;
+    }
+
+    private Game getSourceGame() {
+        if (this.sourceGame == null) {
+            this.sourceGame = this.game.copy();
+        }
+        return this.sourceGame;
+    }
+
+    private GameView getWatchersView() {
+        if (this.watchersView == null) {
+            Game sourceGame = getSourceGame();
+            this.watchersView = new GameView(sourceGame.getState(), sourceGame, null, null);
+        }
+        return this.watchersView;
+    }
+
+    private PlayableObjectsList getPlayableObjects(Player priorityPlayer) {
+        if (!this.playableCalculated) {
+            this.playableObjects = priorityPlayer.getPlayableObjects(getSourceGame(), Zone.ALL);
+            this.playableCalculated = true;
+        }
+        return this.playableObjects;
+    }
+}
@@ -40,9 +40,7 @@ public class ReplaySession implements GameCallback {
     }
 
     public synchronized void next(int moves) {
-        for (int i = 0; i < moves; i++) {
-            replay.next();
-        }
+        replay.skip(moves);
         updateGame(replay.next(), replay.getGame());
     }
 
@@ -52,6 +50,7 @@ public class ReplaySession implements GameCallback {
 
     @Override
     public void endGameWithResult(final String result) {
+        replay.close();
         managerFactory.userManager().getUser(userId).ifPresent(user ->
                 user.fireCallback(new ClientCallback(ClientCallbackMethod.REPLAY_DONE, replay.getGame().getId(), result)));
 
@@ -0,0 +1,120 @@
+package mage.server.game;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Network: fast fingerprint of the view's data for delta updates (see GameSessionViewHistory)
+ * <p>
+ * It's a structural hash of the same fields as java serialization uses (non static and non transient),
+ * but without data stream and digest calculation. Java's classes (strings, numbers, dates, etc) use own hashCode.
+ */
+final class ViewFingerprint {
+
+    private static final long PRIME = 0x100000001B3L;
+    private static final long NULL_HASH = 0x9E3779B97F4A7C15L;
+    private static final long CYCLE_HASH = 0xC2B2AE3D27D4EB4FL;
+
+    private static final ClassValue<Field[]> classFields = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            // own fields only (e.g. CardsView extends LinkedHashMap), java's data uses collections/maps processing
+            for (Class<?> current = type; current != null && !isJavaClass(current); current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+
+    private ViewFingerprint() {
+    }
+
+    static long make(Object view) {
+        return new ViewFingerprint().hash(view);
+    }
+
+    private static long combine(long hash, long value) {
+        return (hash ^ value) * PRIME;
+    }
+
+    private long hash(Object object) {
+        if (object == null) {
+            return NULL_HASH;
+        }
+        Class<?> type = object.getClass();
+        if (type.isEnum()) {
+            return ((Enum<?>) object).ordinal() + 1;
+        }
+        if (isJavaClass(type) && !(object instanceof Collection) && !(object instanceof Map)) {
+            // strings, numbers, uuids, etc
+            return object.hashCode();
+        }
+        if (visited.put(object, Boolean.TRUE) != null) {
+            return CYCLE_HASH;
+        }
+        if (type.isArray()) {
+            return hashArray(object);
+        }
+        long res = type.getName().hashCode();
+        if (object instanceof Map) {
+            // order dependent, so same data with other order will be sent as changed
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                res = combine(res, hash(entry.getKey()));
+                res = combine(res, hash(entry.getValue()));
+            }
+        } else if (object instanceof Collection) {
+            for (Object item : (Collection<?>) object) {
+                res = combine(res, hash(item));
+            }
+        }
+
+        try {
+            for (Field field : classFields.get(type)) {
+                res = combine(res, hash(field.get(object)));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can't make fingerprint for " + type.getName(), e);
+        }
+        return res;
+    }
+
+    private long hashArray(Object array) {
+        if (array instanceof Object[]) {
+            long res = 1;
+            for (Object item : (Object[]) array) {
+                res = combine(res, hash(item));
+            }
+            return res;
+        } else if (array instanceof int[]) {
+            return Arrays.hashCode((int[]) array);
+        } else if (array instanceof byte[]) {
+            return Arrays.hashCode((byte[]) array);
+        } else if (array instanceof long[]) {
+            return Arrays.hashCode((long[]) array);
+        } else if (array instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) array);
+        } else if (array instanceof char[]) {
+            return Arrays.hashCode((char[]) array);
+        } else if (array instanceof short[]) {
+            return Arrays.hashCode((short[]) array);
+        } else if (array instanceof float[]) {
+            return Arrays.hashCode((float[]) array);
+        } else {
+            return Arrays.hashCode((double[]) array);
+        }
+    }
+
+    private static boolean isJavaClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+}
@@ -26,6 +26,8 @@ public interface ConfigSettings {
 
     int getMaxGameThreads();
 
+    Boolean isVirtualThreadsActivated();
+
     int getMaxSecondsIdle();
 
     int getMinUserNameLength();
@@ -42,6 +44,8 @@ public interface ConfigSettings {
 
     Boolean isSaveGameActivated();
 
+    int getMaxUncompressedGameStates();
+
     Boolean isAuthenticationActivated();
 
     String getGoogleAccount();
@@ -25,6 +25,11 @@ public interface ThreadExecutor {
      */
     ExecutorService getCallExecutor();
 
+    /**
+     * Helper threads to send commands to the clients (one active task per session, see Session.fireCallback)
+     */
+    ExecutorService getCallbackExecutor();
+
     /**
      * Helper threads to execute async timers and time related tasks
      */
@@ -38,7 +38,10 @@ public interface UserManager {
 
     String getUserHistory(String userName);
 
-    void updateUserHistory();
+    /**
+     * Reload stats of online users after user stats DB update
+     */
+    void resetUserStats(List<String> userNames);
 
     void checkHealth();
 }
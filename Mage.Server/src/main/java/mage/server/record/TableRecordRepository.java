@@ -3,6 +3,7 @@ package mage.server.record;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
 import com.j256.ormlite.support.ConnectionSource;
@@ -55,6 +56,15 @@ public enum TableRecordRepository {
         }
     }
 
+    /**
+     * Add records in one transaction
+     *
+     * @throws SQLException on DB errors, so caller can report lost records
+     */
+    public void addAll(List<TableRecord> records) throws SQLException {
+        recordsDao.create(records);
+    }
+
     public List<TableRecord> getAfter(long endTimeMs) {
         try {
             QueryBuilder<TableRecord, Object> qb = recordsDao.queryBuilder();
@@ -67,6 +77,19 @@ public enum TableRecordRepository {
         return Collections.emptyList();
     }
 
+    /**
+     * Remove records in time range (inclusive), e.g. records from test tables
+     */
+    public void removeBetween(long fromEndTimeMs, long toEndTimeMs) {
+        try {
+            DeleteBuilder<TableRecord, Object> db = recordsDao.deleteBuilder();
+            db.where().between("endTimeMs", new SelectArg(fromEndTimeMs), new SelectArg(toEndTimeMs));
+            db.delete();
+        } catch (SQLException ex) {
+            Logger.getLogger(TableRecordRepository.class).error("Error removing table_records from DB - ", ex);
+        }
+    }
+
     public void closeDB() {
         try {
             if (recordsDao != null && recordsDao.getConnectionSource() != null) {
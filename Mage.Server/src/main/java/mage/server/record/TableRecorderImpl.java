@@ -4,19 +4,102 @@ import mage.game.Table;
 import mage.game.Table.TableRecorder;
 import mage.game.result.ResultProtos.TableProto;
 import mage.server.managers.UserManager;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Table records use write-behind queue: tables finished at the same time (e.g. tourney's end) write to DB
+ * and update user stats by one batch in the dedicated thread, so table's threads don't wait for DB.
+ * <p>
+ * Writer thread isn't daemon and server waits queued records on shutdown (see waitPendingWrites).
+ */
 public class TableRecorderImpl implements TableRecorder {
 
+    private static final Logger logger = Logger.getLogger(TableRecorderImpl.class);
+
+    private static final ExecutorService RECORDS_EXECUTOR = makeRecordsExecutor();
+    private static final Queue<TableRecord> pendingRecords = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
     private final UserManager userManager;
 
+    private static ExecutorService makeRecordsExecutor() {
+        // idle thread stops, so it keeps JVM alive until queued records written only
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_TABLE_RECORDS, false));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     public TableRecorderImpl(UserManager userManager) {
         this.userManager = userManager;
     }
 
     @Override
     public void record(Table table) {
-        TableProto proto = table.toProto();
-        TableRecordRepository.instance.add(new TableRecord(proto, proto.getEndTimeMs()));
-        userManager.updateUserHistory();
+        // proto must be made in table's thread (table can be changed later)
+        record(table.toProto());
+    }
+
+    public void record(TableProto proto) {
+        pendingRecords.add(new TableRecord(proto, proto.getEndTimeMs()));
+        if (writeScheduled.compareAndSet(false, true)) {
+            RECORDS_EXECUTOR.execute(this::writePendingRecords);
+        }
+    }
+
+    private void writePendingRecords() {
+        // new records after that line will schedule next batch
+        writeScheduled.set(false);
+        List<TableRecord> records = new ArrayList<>();
+        TableRecord record;
+        while ((record = pendingRecords.poll()) != null) {
+            records.add(record);
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try {
+            TableRecordRepository.instance.addAll(records);
+        } catch (Exception e) {
+            logger.error("Can't write table records, lost " + records.size() + " tables: " + records.stream()
+                    .map(r -> r.getProto().getName() + " (end " + r.getProto().getEndTimeMs() + ")")
+                    .collect(Collectors.joining(", ")), e);
+            return;
+        }
+
+        try {
+            userManager.resetUserStats(UserStatsRepository.instance.updateUserStats());
+        } catch (Exception e) {
+            logger.error("Can't update user stats after table records", e);
+        }
+    }
+
+    /**
+     * Wait all queued records (e.g. for tests or server shutdown)
+     */
+    public static void waitPendingWrites() {
+        try {
+            RECORDS_EXECUTOR.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Can't wait table records writes", e);
+        }
     }
 }
@@ -30,6 +30,10 @@ public class UserStats {
         this.endTimeMs = endTimeMs;
     }
 
+    public String getUserName() {
+        return this.userName;
+    }
+
     public UserStatsProto getProto() {
         try {
             return UserStatsProto.parseFrom(this.proto);
@@ -3,6 +3,7 @@ package mage.server.record;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
 import com.j256.ormlite.support.ConnectionSource;
@@ -18,6 +19,7 @@ import org.apache.log4j.Logger;
 import java.io.File;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum UserStatsRepository {
 
@@ -27,8 +29,13 @@ public enum UserStatsRepository {
     // raise this if db structure was changed
     private static final long DB_VERSION = 0;
 
+    private static final int USERS_CACHE_MAX_SIZE = 1000;
+
     private Dao<UserStats, Object> statsDao;
 
+    // hot rows cache (online users and users from the current stats update), write-through
+    private final Map<String, UserStats> usersCache = new ConcurrentHashMap<>();
+
     UserStatsRepository() {
         File file = new File("db");
         if (!file.exists()) {
@@ -52,6 +59,7 @@ public enum UserStatsRepository {
     public void add(UserStats userStats) {
         try {
             statsDao.create(userStats);
+            putToCache(userStats);
         } catch (SQLException ex) {
             Logger.getLogger(UserStatsRepository.class).error("Error adding a user_stats to DB - ", ex);
         }
@@ -60,17 +68,23 @@ public enum UserStatsRepository {
     public void update(UserStats userStats) {
         try {
             statsDao.update(userStats);
+            putToCache(userStats);
         } catch (SQLException ex) {
             Logger.getLogger(UserStatsRepository.class).error("Error updating a user_stats in DB - ", ex);
         }
     }
 
     public UserStats getUser(String userName) {
+        UserStats cachedUser = usersCache.get(userName);
+        if (cachedUser != null) {
+            return cachedUser;
+        }
         try {
             QueryBuilder<UserStats, Object> qb = statsDao.queryBuilder();
             qb.limit(1L).where().eq("userName", new SelectArg(userName));
             List<UserStats> users = statsDao.query(qb.prepare());
             if (!users.isEmpty()) {
+                putToCache(users.get(0));
                 return users.get(0);
             }
         } catch (SQLException ex) {
@@ -79,6 +93,24 @@ public enum UserStatsRepository {
         return null;
     }
 
+    public void removeUsers(Collection<String> userNames) {
+        try {
+            DeleteBuilder<UserStats, Object> db = statsDao.deleteBuilder();
+            db.where().in("userName", new ArrayList<>(userNames));
+            db.delete();
+        } catch (SQLException ex) {
+            Logger.getLogger(UserStatsRepository.class).error("Error removing users from DB - ", ex);
+        }
+        userNames.forEach(usersCache::remove);
+    }
+
+    private void putToCache(UserStats userStats) {
+        if (usersCache.size() >= USERS_CACHE_MAX_SIZE) {
+            usersCache.clear();
+        }
+        usersCache.put(userStats.getUserName(), userStats);
+    }
+
     public List<UserStats> getAllUsers() {
         try {
             QueryBuilder<UserStats, Object> qb = statsDao.queryBuilder();
@@ -111,78 +143,95 @@ public enum UserStatsRepository {
         synchronized (this) {
             long latestEndTimeMs = this.getLatestEndTimeMs();
             List<TableRecord> records = TableRecordRepository.instance.getAfter(latestEndTimeMs);
-            for (TableRecord record : records) {
-                ResultProtos.TableProto table = record.getProto();
-                if (table.getControllerName().equals("System")) {
-                    // This is a sub table within a tournament, so it's already handled by the main
-                    // tournament table.
-                    continue;
+            if (records.isEmpty()) {
+                return new ArrayList<>();
+            }
+            // all tables in one transaction
+            try {
+                statsDao.callBatchTasks(() -> {
+                    updateUserStats(records, updatedUsers);
+                    return null;
+                });
+            } catch (Exception ex) {
+                Logger.getLogger(UserStatsRepository.class).error("Error updating user stats in DB - ", ex);
+                // cache can contain not saved data
+                usersCache.clear();
+            }
+        }
+        return new ArrayList<>(updatedUsers);
+    }
+
+    private void updateUserStats(List<TableRecord> records, Set<String> updatedUsers) {
+        for (TableRecord record : records) {
+            ResultProtos.TableProto table = record.getProto();
+            if (table.getControllerName().equals("System")) {
+                // This is a sub table within a tournament, so it's already handled by the main
+                // tournament table.
+                continue;
+            }
+            if (table.hasMatch()) {
+                ResultProtos.MatchProto match = table.getMatch();
+                for (ResultProtos.MatchPlayerProto player : match.getPlayersList()) {
+                    UserStats userStats = this.getUser(player.getName());
+                    ResultProtos.UserStatsProto proto =
+                            userStats != null
+                                    ? userStats.getProto()
+                                    : ResultProtos.UserStatsProto.newBuilder().setName(player.getName()).build();
+                    ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
+                            .setMatches(proto.getMatches() + 1);
+                    switch (player.getQuit()) {
+                        case IDLE_TIMEOUT:
+                            builder.setMatchesIdleTimeout(proto.getMatchesIdleTimeout() + 1);
+                            break;
+                        case TIMER_TIMEOUT:
+                            builder.setMatchesTimerTimeout(proto.getMatchesTimerTimeout() + 1);
+                            break;
+                        case QUIT:
+                            builder.setMatchesQuit(proto.getMatchesQuit() + 1);
+                            break;
+                    }
+                    if (userStats == null) {
+                        this.add(new UserStats(builder.build(), table.getEndTimeMs()));
+                    } else {
+                        this.update(new UserStats(builder.build(), table.getEndTimeMs()));
+                    }
+                    updatedUsers.add(player.getName());
                 }
-                if (table.hasMatch()) {
-                    ResultProtos.MatchProto match = table.getMatch();
-                    for (ResultProtos.MatchPlayerProto player : match.getPlayersList()) {
-                        UserStats userStats = this.getUser(player.getName());
-                        ResultProtos.UserStatsProto proto =
-                                userStats != null
-                                        ? userStats.getProto()
-                                        : ResultProtos.UserStatsProto.newBuilder().setName(player.getName()).build();
-                        ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
-                                .setMatches(proto.getMatches() + 1);
-                        switch (player.getQuit()) {
-                            case IDLE_TIMEOUT:
-                                builder.setMatchesIdleTimeout(proto.getMatchesIdleTimeout() + 1);
-                                break;
-                            case TIMER_TIMEOUT:
-                                builder.setMatchesTimerTimeout(proto.getMatchesTimerTimeout() + 1);
-                                break;
-                            case QUIT:
-                                builder.setMatchesQuit(proto.getMatchesQuit() + 1);
-                                break;
-                        }
-                        if (userStats == null) {
-                            this.add(new UserStats(builder.build(), table.getEndTimeMs()));
-                        } else {
-                            this.update(new UserStats(builder.build(), table.getEndTimeMs()));
-                        }
-                        updatedUsers.add(player.getName());
+                updateRating(match, table.getEndTimeMs());
+            } else if (table.hasTourney()) {
+                ResultProtos.TourneyProto tourney = table.getTourney();
+                for (ResultProtos.TourneyPlayerProto player : tourney.getPlayersList()) {
+                    UserStats userStats = this.getUser(player.getName());
+                    ResultProtos.UserStatsProto proto = userStats != null ? userStats.getProto()
+                            : ResultProtos.UserStatsProto.newBuilder().setName(player.getName()).build();
+                    ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
+                            .setTourneys(proto.getTourneys() + 1);
+                    switch (player.getQuit()) {
+                        case DURING_ROUND:
+                            builder.setTourneysQuitDuringRound(proto.getTourneysQuitDuringRound() + 1);
+                            break;
+                        case DURING_DRAFTING:
+                            builder.setTourneysQuitDuringDrafting(proto.getTourneysQuitDuringDrafting() + 1);
+                            break;
+                        case DURING_CONSTRUCTION:
+                            builder.setTourneysQuitDuringConstruction(proto.getTourneysQuitDuringConstruction() + 1);
+                            break;
                     }
-                    updateRating(match, table.getEndTimeMs());
-                } else if (table.hasTourney()) {
-                    ResultProtos.TourneyProto tourney = table.getTourney();
-                    for (ResultProtos.TourneyPlayerProto player : tourney.getPlayersList()) {
-                        UserStats userStats = this.getUser(player.getName());
-                        ResultProtos.UserStatsProto proto = userStats != null ? userStats.getProto()
-                                : ResultProtos.UserStatsProto.newBuilder().setName(player.getName()).build();
-                        ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
-                                .setTourneys(proto.getTourneys() + 1);
-                        switch (player.getQuit()) {
-                            case DURING_ROUND:
-                                builder.setTourneysQuitDuringRound(proto.getTourneysQuitDuringRound() + 1);
-                                break;
-                            case DURING_DRAFTING:
-                                builder.setTourneysQuitDuringDrafting(proto.getTourneysQuitDuringDrafting() + 1);
-                                break;
-                            case DURING_CONSTRUCTION:
-                                builder.setTourneysQuitDuringConstruction(proto.getTourneysQuitDuringConstruction() + 1);
-                                break;
-                        }
-                        if (userStats == null) {
-                            this.add(new UserStats(builder.build(), table.getEndTimeMs()));
-                        } else {
-                            this.update(new UserStats(builder.build(), table.getEndTimeMs()));
-                        }
-                        updatedUsers.add(player.getName());
+                    if (userStats == null) {
+                        this.add(new UserStats(builder.build(), table.getEndTimeMs()));
+                    } else {
+                        this.update(new UserStats(builder.build(), table.getEndTimeMs()));
                     }
+                    updatedUsers.add(player.getName());
+                }
 
-                    for (ResultProtos.TourneyRoundProto round : tourney.getRoundsList()) {
-                        for (ResultProtos.MatchProto match : round.getMatchesList()) {
-                            updateRating(match, table.getEndTimeMs());
-                        }
+                for (ResultProtos.TourneyRoundProto round : tourney.getRoundsList()) {
+                    for (ResultProtos.MatchProto match : round.getMatchesList()) {
+                        updateRating(match, table.getEndTimeMs());
                     }
                 }
             }
         }
-        return new ArrayList<>(updatedUsers);
     }
 
     private void updateRating(ResultProtos.MatchProto match, long tableEndTimeMs) {
@@ -1,10 +1,12 @@
 package mage.server.util;
 
+import mage.game.GameStates;
 import mage.server.managers.ConfigSettings;
 import mage.server.util.config.Config;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
 
+import java.math.BigInteger;
 import java.util.List;
 
 public class ConfigWrapper implements ConfigSettings {
@@ -55,6 +57,10 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().getMaxGameThreads().intValue();
     }
 
+    public Boolean isVirtualThreadsActivated() {
+        return config.getServer().isVirtualThreadsActivated();
+    }
+
     public int getMaxSecondsIdle() {
         return config.getServer().getMaxSecondsIdle().intValue();
     }
@@ -87,6 +93,11 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().isSaveGameActivated();
     }
 
+    public int getMaxUncompressedGameStates() {
+        BigInteger value = config.getServer().getMaxUncompressedGameStates();
+        return value == null ? GameStates.DEFAULT_MAX_UNCOMPRESSED_STATES : value.intValue();
+    }
+
     public Boolean isAuthenticationActivated() {
         return config.getServer().isAuthenticationActivated();
     }
@@ -20,6 +20,7 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     private static final int GAMES_PER_TOURNEY_RATIO = 50 / 10;
 
     private final ExecutorService callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
+    private final ExecutorService callbackExecutor; // shareable threads to send data to the clients (example: game updates)
     private final ExecutorService gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
     private final ExecutorService tourneyExecutor; // tourney threads (example: make draft, construction, build and run other game threads)
     private final ScheduledExecutorService timeoutExecutor;
@@ -38,20 +39,26 @@ public class ThreadExecutorImpl implements ThreadExecutor {
      */
 
     public ThreadExecutorImpl(ConfigSettings config) {
-        callExecutor = new CachedThreadPoolWithException();
-        ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
-
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        boolean useVirtualThreads = Boolean.TRUE.equals(config.isVirtualThreadsActivated());
+        if (useVirtualThreads && !VirtualThreadExecutor.isSupported()) {
+            logger.warn("Virtual threads are not supported by current java version " + System.getProperty("java.version")
+                    + ", server will use default threads (need java 21 or newer)");
+            useVirtualThreads = false;
+        }
 
-        tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
-        ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) tourneyExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) tourneyExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+        if (useVirtualThreads) {
+            // thread per task without max games limit (waiting games don't hold OS threads)
+            logger.info("Server uses virtual threads for games, tourneys and calls");
+            callExecutor = new VirtualThreadExecutor(ThreadUtils.THREAD_PREFIX_CALL_REQUEST);
+            callbackExecutor = new VirtualThreadExecutor(ThreadUtils.THREAD_PREFIX_CALLBACK_SEND);
+            gameExecutor = new VirtualThreadExecutor(ThreadUtils.THREAD_PREFIX_GAME);
+            tourneyExecutor = new VirtualThreadExecutor(ThreadUtils.THREAD_PREFIX_TOURNEY);
+        } else {
+            callExecutor = makeCallExecutor(ThreadUtils.THREAD_PREFIX_CALL_REQUEST);
+            callbackExecutor = makeCallExecutor(ThreadUtils.THREAD_PREFIX_CALLBACK_SEND);
+            gameExecutor = makeGameExecutor(config);
+            tourneyExecutor = makeTourneyExecutor(config);
+        }
 
         timeoutExecutor = Executors.newScheduledThreadPool(4);
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
@@ -66,6 +73,30 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         serverHealthExecutor = Executors.newSingleThreadScheduledExecutor(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_HEALTH));
     }
 
+    private static ExecutorService makeCallExecutor(String threadPrefix) {
+        ThreadPoolExecutor executor = new CachedThreadPoolWithException();
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setThreadFactory(new XmageThreadFactory(threadPrefix));
+        return executor;
+    }
+
+    private static ExecutorService makeGameExecutor(ConfigSettings config) {
+        ThreadPoolExecutor executor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        return executor;
+    }
+
+    private static ExecutorService makeTourneyExecutor(ConfigSettings config) {
+        ThreadPoolExecutor executor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+        return executor;
+    }
+
     static class CachedThreadPoolWithException extends ThreadPoolExecutor {
 
         CachedThreadPoolWithException() {
@@ -110,6 +141,9 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         if (executerService instanceof ThreadPoolExecutor) {
             return ((ThreadPoolExecutor) executerService).getActiveCount();
         }
+        if (executerService instanceof VirtualThreadExecutor) {
+            return ((VirtualThreadExecutor) executerService).getActiveCount();
+        }
         return -1;
     }
 
@@ -118,6 +152,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return callExecutor;
     }
 
+    @Override
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     @Override
     public ExecutorService getTourneyExecutor() {
         return tourneyExecutor;
@@ -0,0 +1,124 @@
+package mage.server.util;
+
+import mage.util.ThreadUtils;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server: thread per task executor with virtual threads (java 21+, see ThreadExecutorImpl)
+ * <p>
+ * Virtual thread is cheap and releases OS thread on waiting, so server can run thousands of mostly idle
+ * games (e.g. game waiting user's response) without OS threads limit.
+ * <p>
+ * Server's code must be compatible with java 8, so virtual threads support searching by reflection.
+ */
+class VirtualThreadExecutor extends AbstractExecutorService {
+
+    private static final Logger logger = Logger.getLogger(VirtualThreadExecutor.class);
+
+    private static final ThreadFactory virtualThreadFactory = findVirtualThreadFactory();
+
+    private final String prefix;
+    private final AtomicInteger counter = new AtomicInteger();
+    private final Set<Thread> activeThreads = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown = false;
+
+    VirtualThreadExecutor(String prefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads are not supported by current java version " + System.getProperty("java.version"));
+        }
+        this.prefix = prefix;
+    }
+
+    private static ThreadFactory findVirtualThreadFactory() {
+        try {
+            // same as Thread.ofVirtual().factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) builder.getClass().getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static boolean isSupported() {
+        return virtualThreadFactory != null;
+    }
+
+    int getActiveCount() {
+        return activeThreads.size();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor was shutdown: " + prefix);
+        }
+        Thread thread = virtualThreadFactory.newThread(() -> runTask(command));
+        // gives default name, but threads can change it by Thread.currentThread().setName (see XmageThreadFactory)
+        thread.setName(String.format("%s - %d", this.prefix, this.counter.incrementAndGet()));
+        activeThreads.add(thread);
+        try {
+            thread.start();
+        } catch (Throwable e) {
+            activeThreads.remove(thread);
+            throw e;
+        }
+    }
+
+    private void runTask(Runnable command) {
+        Throwable error = null;
+        try {
+            command.run();
+        } catch (Throwable e) {
+            error = e;
+        } finally {
+            activeThreads.remove(Thread.currentThread());
+        }
+
+        // catch errors in threads (same as afterExecute in thread pools)
+        error = ThreadUtils.findRunnableException(command, error);
+        if (error != null && !(error instanceof CancellationException)) {
+            logger.error("Catch unhandled error in " + prefix + " thread: " + error.getMessage(), error);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        activeThreads.forEach(Thread::interrupt);
+        return new ArrayList<>(); // no queue, all tasks already started
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && activeThreads.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Thread thread : new ArrayList<>(activeThreads)) {
+            long leftMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (leftMillis <= 0) {
+                break;
+            }
+            thread.join(leftMillis);
+        }
+        return isTerminated();
+    }
+}
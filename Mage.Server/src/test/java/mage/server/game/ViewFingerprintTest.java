@@ -0,0 +1,80 @@
+package mage.server.game;
+
+import mage.counters.Counter;
+import mage.counters.CounterType;
+import mage.view.CounterView;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewFingerprintTest {
+
+    static class TestView implements Serializable {
+        String name;
+        int life;
+        transient int notSent;
+        CounterView counter;
+        List<CounterView> counters = new ArrayList<>();
+        Map<String, Object> data = new LinkedHashMap<>();
+        int[] values = new int[2];
+        TestView parent;
+    }
+
+    private TestView makeView() {
+        TestView view = new TestView();
+        view.name = "player";
+        view.life = 20;
+        view.counter = new CounterView(new Counter(CounterType.P1P1.getName(), 2));
+        view.counters.add(new CounterView(new Counter(CounterType.POISON.getName(), 1)));
+        view.data.put("key", 1);
+        view.values[0] = 5;
+        view.parent = view; // cycle
+        return view;
+    }
+
+    @Test
+    public void sameDataMustHaveSameFingerprint() {
+        long fingerprint = ViewFingerprint.make(makeView());
+        assertThat(ViewFingerprint.make(makeView())).isEqualTo(fingerprint);
+
+        // transient fields aren't sent to the client
+        TestView view = makeView();
+        view.notSent = 10;
+        assertThat(ViewFingerprint.make(view)).isEqualTo(fingerprint);
+    }
+
+    @Test
+    public void changedDataMustHaveOtherFingerprint() {
+        long fingerprint = ViewFingerprint.make(makeView());
+
+        TestView view = makeView();
+        view.life = 19;
+        assertThat(ViewFingerprint.make(view)).isNotEqualTo(fingerprint);
+
+        view = makeView();
+        view.name = null;
+        assertThat(ViewFingerprint.make(view)).isNotEqualTo(fingerprint);
+
+        view = makeView();
+        view.counter = new CounterView(new Counter(CounterType.P1P1.getName(), 3));
+        assertThat(ViewFingerprint.make(view)).isNotEqualTo(fingerprint);
+
+        view = makeView();
+        view.counters.add(new CounterView(new Counter(CounterType.POISON.getName(), 1)));
+        assertThat(ViewFingerprint.make(view)).isNotEqualTo(fingerprint);
+
+        view = makeView();
+        view.data.put("key", 2);
+        assertThat(ViewFingerprint.make(view)).isNotEqualTo(fingerprint);
+
+        view = makeView();
+        view.values[1] = 1;
+        assertThat(ViewFingerprint.make(view)).isNotEqualTo(fingerprint);
+    }
+}
@@ -35,6 +35,7 @@ public class ConfigWrapperTest {
         public int numAcceptThreads;
         public int backlogSize;
         public int maxGameThreads;
+        public boolean virtualThreadsActivated;
         public int maxSecondsIdle;
         public int minUsernameLength;
         public int maxUsernameLength;
@@ -43,6 +44,7 @@ public class ConfigWrapperTest {
         public int maxPasswordLength;
         public String maxAiOpponents;
         public boolean saveGameActivated;
+        public int maxUncompressedGameStates;
         public boolean authenticationActivated;
         public String googleAccount;
         public String mailgunApiKey;
@@ -86,6 +88,7 @@ public class ConfigWrapperTest {
             server.setNumAcceptThreads(bi(numAcceptThreads));
             server.setBacklogSize(bi(backlogSize));
             server.setMaxGameThreads(bi(maxGameThreads));
+            server.setVirtualThreadsActivated(virtualThreadsActivated);
             server.setMaxSecondsIdle(bi(maxSecondsIdle));
             server.setMinUserNameLength(bi(minUsernameLength));
             server.setMaxUserNameLength(bi(maxUsernameLength));
@@ -94,6 +97,7 @@ public class ConfigWrapperTest {
             server.setMaxPasswordLength(bi(maxPasswordLength));
             server.setMaxAiOpponents(maxAiOpponents);
             server.setSaveGameActivated(saveGameActivated);
+            server.setMaxUncompressedGameStates(bi(maxUncompressedGameStates));
             server.setAuthenticationActivated(authenticationActivated);
             server.setGoogleAccount(googleAccount);
             server.setMailgunApiKey(mailgunApiKey);
@@ -163,6 +167,7 @@ public class ConfigWrapperTest {
                 testInt("number of accept threads", c -> c.numAcceptThreads = expectedPositiveInt, ConfigWrapper::getNumAcceptThreads),
                 testInt("backlog size", c -> c.backlogSize = expectedPositiveInt, ConfigWrapper::getBacklogSize),
                 testInt("max game threads", c -> c.maxGameThreads = expectedPositiveInt, ConfigWrapper::getMaxGameThreads),
+                testTrue("virtual threads activated", c -> c.virtualThreadsActivated = true, ConfigWrapper::isVirtualThreadsActivated),
                 testInt("max seconds idle", c -> c.maxSecondsIdle = expectedPositiveInt, ConfigWrapper::getMaxSecondsIdle),
                 testInt("min username length", c -> c.minUsernameLength = expectedPositiveInt, ConfigWrapper::getMinUserNameLength),
                 testInt("max username length", c -> c.maxUsernameLength = expectedPositiveInt, ConfigWrapper::getMaxUserNameLength),
@@ -171,6 +176,7 @@ public class ConfigWrapperTest {
                 testInt("max password length", c -> c.maxPasswordLength = expectedPositiveInt, ConfigWrapper::getMaxPasswordLength),
                 testString("max AI opponents", c -> c.maxAiOpponents = expectedString, ConfigWrapper::getMaxAiOpponents),
                 testTrue("save game activated", c -> c.saveGameActivated = true, ConfigWrapper::isSaveGameActivated),
+                testInt("max uncompressed game states", c -> c.maxUncompressedGameStates = expectedPositiveInt, ConfigWrapper::getMaxUncompressedGameStates),
                 testTrue("authentication activated", c -> c.authenticationActivated = true, ConfigWrapper::isAuthenticationActivated),
                 testString("google account", c -> c.googleAccount = expectedString, ConfigWrapper::getGoogleAccount),
                 testString("mailgun api key", c -> c.mailgunApiKey = expectedString, ConfigWrapper::getMailgunApiKey),
@@ -23,6 +23,7 @@ import mage.game.Game;
 import mage.game.permanent.Permanent;
 
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @author TheElk801
@@ -109,12 +110,15 @@ class ShayCormacEffect extends ContinuousEffectImpl {
             if (permanent == null) {
                 continue;
             }
-            // I know the removeIf is deprecated but I can't see any reason not to use it based on what the removeAbility method actually does
-            permanent.getAbilities(game).removeIf(HexproofBaseAbility.class::isInstance);
+            permanent.removeAbilities(permanent
+                    .getAbilities(game)
+                    .stream()
+                    .filter(ability -> ability instanceof HexproofBaseAbility
+                            || ability instanceof ProtectionAbility
+                            || ability instanceof WardAbility)
+                    .collect(Collectors.toList()), source.getSourceId(), game);
             permanent.removeAbility(IndestructibleAbility.getInstance(), source.getSourceId(), game);
-            permanent.getAbilities(game).removeIf(ProtectionAbility.class::isInstance);
             permanent.removeAbility(ShroudAbility.getInstance(), source.getSourceId(), game);
-            permanent.getAbilities(game).removeIf(WardAbility.class::isInstance);
         }
         return true;
     }
@@ -0,0 +1,207 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.player.ai.simulators.CombatBlockSimulator;
+import mage.player.ai.simulators.CombatGroupSimulator;
+import mage.player.ai.simulators.CombatSimulator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * AI: blockers search by compact combat model (default computer player, see ComputerPlayer.simulateBlock)
+ */
+public class CombatBlockSimulatorTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SameResultAsBruteForce() {
+        addCard(Zone.BATTLEFIELD, playerA, "White Knight", 1); // 2/2, first strike
+        addCard(Zone.BATTLEFIELD, playerA, "Fencing Ace", 1); // 1/1, double strike
+        addCard(Zone.BATTLEFIELD, playerA, "Colossal Dreadmaw", 1); // 6/6, trample
+        addCard(Zone.BATTLEFIELD, playerA, "Craw Wurm", 1); // 6/4
+        addCard(Zone.BATTLEFIELD, playerA, "Serra Angel", 1); // 4/4, flying
+        //
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 2); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+        addCard(Zone.BATTLEFIELD, playerB, "Youthful Knight", 1); // 2/1, first strike
+        addCard(Zone.BATTLEFIELD, playerB, "Horned Turtle", 1); // 1/4
+
+        runCode("check", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            List<Permanent> attackers = new ArrayList<>(currentGame.getBattlefield().getAllActivePermanents(playerA.getId()));
+            // identical blockers must be neighbours, so both searches use same damage assignment order
+            List<Permanent> blockers = currentGame.getBattlefield().getAllActivePermanents(playerB.getId()).stream()
+                    .sorted(Comparator.comparing(Permanent::getName))
+                    .collect(Collectors.toList());
+            Assert.assertEquals(5, attackers.size());
+            Assert.assertEquals(5, blockers.size());
+
+            // all attackers combinations up to 3 attackers
+            int checked = 0;
+            for (int mask = 1; mask < (1 << attackers.size()); mask++) {
+                if (Integer.bitCount(mask) > 3) {
+                    continue;
+                }
+                List<UUID> attackerIds = new ArrayList<>();
+                for (int i = 0; i < attackers.size(); i++) {
+                    if ((mask & (1 << i)) > 0) {
+                        attackerIds.add(attackers.get(i).getId());
+                    }
+                }
+                for (int life : Arrays.asList(20, 4)) {
+                    int bruteForceRating = findBruteForceRating(attackerIds, blockers, life, game);
+                    CombatSimulator combat = new CombatBlockSimulator(makeCombat(attackerIds, blockers, new int[0], life, game), blockers, game)
+                            .simulateBestBlock(game);
+                    Assert.assertEquals("must have same rating for attackers "
+                                    + attackerIds.stream().map(id -> game.getPermanent(id).getName()).collect(Collectors.joining(", "))
+                                    + " and life " + life,
+                            bruteForceRating, combat.evaluate());
+                    checked++;
+                }
+            }
+            Assert.assertEquals(2 * (5 + 10 + 10), checked);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private int findBruteForceRating(List<UUID> attackerIds, List<Permanent> blockers, int life, Game game) {
+        int groupsCount = attackerIds.size();
+        int[] choice = new int[blockers.size()]; // group index + 1, 0 for no block
+        int bestRating = Integer.MAX_VALUE;
+        while (true) {
+            boolean canBlock = true;
+            for (int b = 0; b < choice.length; b++) {
+                if (choice[b] > 0 && !blockers.get(b).canBlock(attackerIds.get(choice[b] - 1), game)) {
+                    canBlock = false;
+                    break;
+                }
+            }
+            if (canBlock) {
+                CombatSimulator combat = makeCombat(attackerIds, blockers, choice, life, game);
+                combat.simulate(game);
+                bestRating = Math.min(bestRating, combat.evaluate());
+            }
+
+            // next assignment
+            int b = 0;
+            while (b < choice.length && choice[b] == groupsCount) {
+                choice[b] = 0;
+                b++;
+            }
+            if (b == choice.length) {
+                return bestRating;
+            }
+            choice[b]++;
+        }
+    }
+
+    private CombatSimulator makeCombat(List<UUID> attackerIds, List<Permanent> blockers, int[] choice, int life, Game game) {
+        CombatSimulator combat = new CombatSimulator();
+        combat.playersLife.put(playerB.getId(), life);
+        for (int g = 0; g < attackerIds.size(); g++) {
+            List<UUID> groupBlockers = new ArrayList<>();
+            for (int b = 0; b < choice.length; b++) {
+                if (choice[b] == g + 1) {
+                    groupBlockers.add(blockers.get(b).getId());
+                }
+            }
+            combat.groups.add(new CombatGroupSimulator(playerB.getId(), Collections.singletonList(attackerIds.get(g)), groupBlockers, game));
+        }
+        return combat;
+    }
+
+    @Test
+    public void test_SingleBlocker_MustNotChumpBlock() {
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant", 1); // 3/3
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+
+        attack(1, playerA, "Hill Giant");
+
+        // ai must not block (blocker dies without profit)
+        runCode("check", 1, PhaseStep.DECLARE_ATTACKERS, playerA, (info, player, game) -> {
+            assertBestBlockers(game, "");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_SingleBlocker_MustKillAttacker() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+
+        attack(1, playerA, "Grizzly Bears");
+
+        // ai must block
+        runCode("check", 1, PhaseStep.DECLARE_ATTACKERS, playerA, (info, player, game) -> {
+            assertBestBlockers(game, "Hill Giant");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_SingleBlocker_FirstStrikeAttacker() {
+        addCard(Zone.BATTLEFIELD, playerA, "White Knight", 1); // 2/2, first strike
+        addCard(Zone.BATTLEFIELD, playerB, "Horned Turtle", 1); // 1/4
+
+        attack(1, playerA, "White Knight");
+
+        // ai must block (first strike damage must be dealt once, so blocker survives)
+        runCode("check", 1, PhaseStep.DECLARE_ATTACKERS, playerA, (info, player, game) -> {
+            assertBestBlockers(game, "Horned Turtle");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_SingleBlocker_TrampleAttacker() {
+        addCard(Zone.BATTLEFIELD, playerA, "Colossal Dreadmaw", 1); // 6/6, trample
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+
+        attack(1, playerA, "Colossal Dreadmaw");
+
+        // ai must block to save life on lethal damage (trample damage goes to player after blocker's lethal damage)
+        setLife(playerB, 6);
+        runCode("check", 1, PhaseStep.DECLARE_ATTACKERS, playerA, (info, player, game) -> {
+            CombatSimulator combat = assertBestBlockers(game, "Grizzly Bears");
+            Assert.assertEquals(6 - 2, combat.groups.get(0).unblockedDamage);
+            Assert.assertTrue("blocker must die", combat.groups.get(0).blockers.get(0).isDead());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    /**
+     * Same search as ComputerPlayer.selectBlockers
+     */
+    private CombatSimulator assertBestBlockers(Game game, String needBlockers) {
+        List<Permanent> blockers = game.getBattlefield().getAllActivePermanents(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), game);
+        CombatSimulator combat = new CombatBlockSimulator(CombatSimulator.load(game), blockers, game).simulateBestBlock(game);
+        Assert.assertEquals("must have one combat group", 1, combat.groups.size());
+        String foundBlockers = combat.groups.get(0).blockers.stream()
+                .map(creature -> game.getPermanent(creature.id).getName())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        Assert.assertEquals("must use best blockers", needBlockers, foundBlockers);
+        return combat;
+    }
+}
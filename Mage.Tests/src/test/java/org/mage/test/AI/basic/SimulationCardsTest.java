@@ -0,0 +1,68 @@
+package org.mage.test.AI.basic;
+
+import mage.abilities.keyword.FlyingAbility;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.UUID;
+
+/**
+ * AI: simulations share game cards with parent game (copy-on-access), full simulations must not
+ */
+public class SimulationCardsTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_FullSimulationMustNotSeeParentChanges() {
+        addCard(Zone.LIBRARY, playerA, "Grizzly Bears", 1);
+        addCard(Zone.LIBRARY, playerA, "Hill Giant", 1);
+
+        runCode("check", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            UUID bearsId = findCardId(game, "Grizzly Bears");
+            UUID giantId = findCardId(game, "Hill Giant");
+
+            Game sim = game.createSimulationForAI();
+            Game fullSim = game.createFullSimulationForAI();
+            Game fullSimFromSim = sim.createFullSimulationForAI();
+            Assert.assertTrue(fullSim.isSimulation());
+            Assert.assertTrue(fullSimFromSim.isSimulation());
+
+            // changes in parent after copy
+            game.getCard(bearsId).addAbility(FlyingAbility.getInstance());
+            Assert.assertTrue(game.getCard(bearsId).getAbilities().containsClass(FlyingAbility.class));
+            Assert.assertFalse("full simulation must not see parent changes",
+                    fullSim.getCard(bearsId).getAbilities().containsClass(FlyingAbility.class));
+            Assert.assertFalse("full copy of simulation must not see parent changes",
+                    fullSimFromSim.getCard(bearsId).getAbilities().containsClass(FlyingAbility.class));
+
+            // changes in simulation
+            Card simGiant = sim.getCard(giantId);
+            Assert.assertNotSame("simulation must use own card copy", game.getCard(giantId), simGiant);
+            simGiant.addAbility(FlyingAbility.getInstance());
+            Assert.assertFalse("parent must not see simulation changes",
+                    game.getCard(giantId).getAbilities().containsClass(FlyingAbility.class));
+            Assert.assertFalse("full copy of simulation must not see simulation changes",
+                    fullSimFromSim.getCard(giantId).getAbilities().containsClass(FlyingAbility.class));
+
+            // all cards
+            Assert.assertEquals(game.getCards().size(), fullSim.getCards().size());
+            Assert.assertEquals(game.getCards().size(), fullSimFromSim.getCards().size());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private UUID findCardId(Game game, String cardName) {
+        return game.getPlayer(playerA.getId()).getLibrary().getCards(game).stream()
+                .filter(card -> card.getName().equals(cardName))
+                .map(Card::getId)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Can't find card " + cardName));
+    }
+}
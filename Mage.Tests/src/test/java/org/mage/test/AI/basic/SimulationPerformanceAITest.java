@@ -5,6 +5,7 @@ import mage.abilities.common.SimpleStaticAbility;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.game.permanent.Permanent;
+import mage.player.ai.ComputerPlayer6;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -213,4 +214,40 @@ public class SimulationPerformanceAITest extends CardTestPlayerBaseAI {
         // 4 damage to x2 bears and 1 damage to damaged bear
         runManyTargetOptionsInActivate("5 target creatures with one damaged", 5, 3, true, 20);
     }
+
+    private void runSearchBenchmark(boolean parallelSearch) {
+        // fixed position with many possible actions on first priority
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.HAND, playerA, "Raging Goblin", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 3);
+
+        ComputerPlayer6 ai = (ComputerPlayer6) playerA.getComputerPlayer();
+        ai.setParallelRootSearch(parallelSearch);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        long nodes = ai.getTotalSimulatedNodes();
+        long time = Math.max(1, ai.getTotalSimulationTimeMs());
+        System.out.println(String.format("%s search: %d nodes in %d ms (%d nodes/sec)",
+                parallelSearch ? "Parallel" : "Single thread",
+                nodes,
+                time,
+                nodes * 1000 / time
+        ));
+    }
+
+    @Test
+    @Ignore // performance test, compare with test_SearchBenchmark_Parallel
+    public void test_SearchBenchmark_SingleThread() {
+        runSearchBenchmark(false);
+    }
+
+    @Test
+    @Ignore // performance test, compare with test_SearchBenchmark_SingleThread
+    public void test_SearchBenchmark_Parallel() {
+        runSearchBenchmark(true);
+    }
 }
@@ -0,0 +1,115 @@
+package org.mage.test.AI.basic;
+
+import mage.abilities.keyword.FlyingAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.game.stack.StackObject;
+import mage.player.ai.TranspositionTable;
+import mage.players.Player;
+import mage.target.Target;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * AI: transposition table must find same game states only (different states must have different keys)
+ */
+public class TranspositionTableTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_Lookup() {
+        TranspositionTable table = new TranspositionTable();
+        Assert.assertNull(table.get(1L));
+        Assert.assertEquals(0, table.getHits());
+
+        table.put(1L, 100);
+        table.put(2L, -100);
+        Assert.assertEquals(Integer.valueOf(100), table.get(1L));
+        Assert.assertEquals(Integer.valueOf(-100), table.get(2L));
+        Assert.assertNull(table.get(3L));
+        Assert.assertEquals("hits must count found scores only", 2, table.getHits());
+
+        // new score for same key
+        table.put(1L, 50);
+        Assert.assertEquals(Integer.valueOf(50), table.get(1L));
+    }
+
+    @Test
+    public void test_Keys() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", "Grizzly Bears");
+
+        runCode("on stack", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals("bolt must be on stack", 1, game.getStack().size());
+            long key = makeKey(game);
+            long stateHash = game.getState().getValueHash(true);
+            Assert.assertEquals("same state must have same key", key, makeKey(game));
+
+            // search params
+            Assert.assertNotEquals(key, TranspositionTable.makeKey(game, true, 3, -100, 100));
+            Assert.assertNotEquals(key, TranspositionTable.makeKey(game, false, 2, -100, 100));
+            Assert.assertNotEquals(key, TranspositionTable.makeKey(game, false, 3, -99, 100));
+            Assert.assertNotEquals(key, TranspositionTable.makeKey(game, false, 3, -100, 99));
+
+            // passed flag
+            Player opponent = game.getPlayer(playerB.getId());
+            boolean wasPassed = opponent.isPassed();
+            setPassed(opponent, !wasPassed, game);
+            Assert.assertNotEquals("passed flag must change state hash", stateHash, game.getState().getValueHash(true));
+            Assert.assertNotEquals("passed flag must change key", key, makeKey(game));
+            setPassed(opponent, wasPassed, game);
+            Assert.assertEquals(stateHash, game.getState().getValueHash(true));
+
+            // target: same name, but other object
+            StackObject bolt = game.getStack().getFirst();
+            Target target = bolt.getStackAbility().getTargets().get(0);
+            UUID oldTargetId = target.getFirstTarget();
+            List<UUID> bears = game.getBattlefield().getAllActivePermanents(playerB.getId()).stream()
+                    .map(Permanent::getId)
+                    .collect(Collectors.toList());
+            UUID newTargetId = bears.get(0).equals(oldTargetId) ? bears.get(1) : bears.get(0);
+            target.clearChosen();
+            target.addTarget(newTargetId, bolt.getStackAbility(), game);
+            Assert.assertNotEquals("stack target must change state hash", stateHash, game.getState().getValueHash(true));
+            Assert.assertNotEquals("stack target must change key", key, makeKey(game));
+            target.clearChosen();
+            target.addTarget(oldTargetId, bolt.getStackAbility(), game);
+            Assert.assertEquals(stateHash, game.getState().getValueHash(true));
+            Assert.assertEquals(key, makeKey(game));
+
+            // abilities
+            Permanent bear = game.getPermanent(oldTargetId);
+            bear.addAbility(FlyingAbility.getInstance(), null, game);
+            Assert.assertNotEquals("gained ability must change state hash", stateHash, game.getState().getValueHash(true));
+            game.applyEffects();
+            Assert.assertEquals("same abilities after effects must have same state hash", stateHash, game.getState().getValueHash(true));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerB, "Grizzly Bears", 1);
+    }
+
+    private long makeKey(Game game) {
+        return TranspositionTable.makeKey(game, false, 3, -100, 100);
+    }
+
+    private void setPassed(Player player, boolean passed, Game game) {
+        if (passed) {
+            player.pass(game);
+        } else {
+            player.resetPassed();
+        }
+    }
+}
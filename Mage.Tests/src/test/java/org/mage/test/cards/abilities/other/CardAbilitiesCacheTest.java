@@ -0,0 +1,114 @@
+package org.mage.test.cards.abilities.other;
+
+import mage.abilities.Abilities;
+import mage.abilities.Ability;
+import mage.abilities.keyword.FlyingAbility;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+
+/**
+ * Card's abilities can be cached between getAbilities(game) calls, so it must be read only and must be updated on changes
+ */
+public class CardAbilitiesCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_Card_AddAndLoseAllAbilities() {
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        runCode("check", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Card card = player.getHand().getCards(game).stream()
+                    .filter(c -> c.getName().equals("Grizzly Bears"))
+                    .findFirst()
+                    .orElse(null);
+            Assert.assertNotNull(card);
+
+            // cache hit
+            Abilities<Ability> abilities = card.getAbilities(game);
+            Assert.assertSame("must use cached abilities", abilities, card.getAbilities(game));
+            Assert.assertFalse(abilities.containsClass(FlyingAbility.class));
+            assertReadOnly(abilities);
+
+            // add ability
+            game.getState().addOtherAbility(card, FlyingAbility.getInstance());
+            Abilities<Ability> newAbilities = card.getAbilities(game);
+            Assert.assertNotSame("must update cache after add ability", abilities, newAbilities);
+            Assert.assertTrue("must have added ability", newAbilities.containsClass(FlyingAbility.class));
+            Assert.assertFalse("old result must be unchanged", abilities.containsClass(FlyingAbility.class));
+
+            // lose all abilities
+            card.looseAllAbilities(game);
+            Assert.assertTrue("must lose all abilities", card.getAbilities(game).isEmpty());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_Permanent_NewEffectsApply() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        addCard(Zone.HAND, playerA, "Jump", 1); // {U} Target creature gains flying until end of turn.
+
+        runCode("before", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Permanent permanent = getPermanent("Grizzly Bears", player);
+            Abilities<Ability> abilities = permanent.getAbilities(game);
+            Assert.assertSame("must use cached abilities", abilities, permanent.getAbilities(game));
+            Assert.assertFalse("must not have flying", abilities.containsClass(FlyingAbility.class));
+            assertReadOnly(abilities);
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Jump", "Grizzly Bears");
+
+        runCode("after", 1, PhaseStep.POSTCOMBAT_MAIN, playerA, (info, player, game) -> {
+            Permanent permanent = getPermanent("Grizzly Bears", player);
+            Assert.assertTrue("must have flying after effects apply", permanent.getAbilities(game).containsClass(FlyingAbility.class));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertAbility(playerA, "Grizzly Bears", FlyingAbility.getInstance(), true);
+    }
+
+    private void assertReadOnly(Abilities<Ability> abilities) {
+        try {
+            abilities.add(FlyingAbility.getInstance());
+            Assert.fail("must be read only");
+        } catch (UnsupportedOperationException e) {
+            // ok
+        }
+        try {
+            abilities.removeIf(ability -> true);
+            Assert.fail("must be read only");
+        } catch (UnsupportedOperationException e) {
+            // ok
+        }
+        try {
+            Iterator<Ability> iterator = abilities.iterator();
+            iterator.next();
+            iterator.remove();
+            Assert.fail("must be read only");
+        } catch (UnsupportedOperationException e) {
+            // ok
+        }
+        try {
+            ListIterator<Ability> iterator = abilities.listIterator();
+            iterator.next();
+            iterator.set(FlyingAbility.getInstance());
+            Assert.fail("must be read only");
+        } catch (UnsupportedOperationException e) {
+            // ok
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.mage.test.cards.rules;
+
+import mage.MageObject;
+import mage.ObjectColor;
+import mage.constants.CardType;
+import mage.constants.ComparisonType;
+import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.predicate.Predicate;
+import mage.filter.predicate.Predicates;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.ManaValuePredicate;
+import mage.filter.predicate.mageobject.NamePredicate;
+import mage.filter.predicate.mageobject.PowerPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Locked filters use prepared predicates with cheap checks first (see FilterImpl.getCompiledPredicates),
+ * so it must return same results as unlocked filters with declaration order
+ */
+public class FilterPredicatesOrderTest extends CardTestPlayerBase {
+
+    /**
+     * Expensive predicate example with calls counter
+     */
+    private static class CountingPredicate implements Predicate<MageObject> {
+
+        private final Predicate<MageObject> predicate;
+        private int calls = 0;
+
+        CountingPredicate(Predicate<MageObject> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean apply(MageObject input, Game game) {
+            calls++;
+            return predicate.apply(input, game);
+        }
+    }
+
+    @Test
+    public void test_CompiledAndPlainPredicatesMustHaveSameResults() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2); // 2/2, green, bear, {1}{G}
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant", 1); // 3/3, red, giant, {3}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Craw Wurm", 1); // 6/4, green, wurm, {4}{G}{G}
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 1);
+
+        attack(1, playerA, "Hill Giant");
+
+        runCode("check", 1, PhaseStep.POSTCOMBAT_MAIN, playerA, (info, player, game) -> {
+            List<Permanent> permanents = new ArrayList<>(game.getBattlefield().getAllPermanents());
+            Assert.assertEquals(7, permanents.size());
+
+            // expensive predicates first, cheap predicates last
+            FilterPermanent filter = new FilterPermanent();
+            filter.add(new PowerPredicate(ComparisonType.MORE_THAN, 1));
+            filter.add(Predicates.or(new NamePredicate("Hill Giant"), new ManaValuePredicate(ComparisonType.MORE_THAN, 5)));
+            filter.add(CardType.CREATURE.getPredicate());
+            filter.add(TappedPredicate.UNTAPPED);
+            assertSameResults(filter, permanents, game, 1); // Craw Wurm (giant is tapped after attack)
+
+            filter = new FilterPermanent();
+            filter.add(new ManaValuePredicate(ComparisonType.FEWER_THAN, 3));
+            filter.add(Predicates.not(SubType.BEAR.getPredicate()));
+            filter.add(new ColorPredicate(ObjectColor.GREEN));
+            assertSameResults(filter, permanents, game, 0);
+
+            filter = new FilterPermanent();
+            filter.add(Predicates.not(new NamePredicate("Craw Wurm")));
+            filter.add(new ColorPredicate(ObjectColor.GREEN));
+            assertSameResults(filter, permanents, game, 2); // Grizzly Bears
+
+            // copied filter with new predicates after add()
+            FilterPermanent lockedFilter = filter.copy();
+            lockedFilter.setLockedFilter(true);
+            Assert.assertEquals(2, countMatched(lockedFilter, permanents, game));
+            FilterPermanent copiedFilter = lockedFilter.copy();
+            copiedFilter.add(new PowerPredicate(ComparisonType.MORE_THAN, 5));
+            copiedFilter.add(SubType.WURM.getPredicate());
+            assertSameResults(copiedFilter, permanents, game, 0);
+            Assert.assertEquals("copy must not change original filter", 2, countMatched(lockedFilter, permanents, game));
+            copiedFilter = lockedFilter.copy();
+            copiedFilter.add(TappedPredicate.UNTAPPED);
+            assertSameResults(copiedFilter, permanents, game, 2);
+
+            // cheap predicates must be checked first
+            CountingPredicate expensive = new CountingPredicate(new NamePredicate("Forest"));
+            filter = new FilterPermanent();
+            filter.add(expensive);
+            filter.add(CardType.LAND.getPredicate());
+            filter.setLockedFilter(true);
+            Assert.assertEquals(2, countMatched(filter, permanents, game));
+            Assert.assertEquals("expensive predicate must be checked for lands only", 3, expensive.calls);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private void assertSameResults(FilterPermanent filter, List<Permanent> permanents, Game game, int needMatched) {
+        FilterPermanent lockedFilter = filter.copy();
+        lockedFilter.setLockedFilter(true);
+        for (Permanent permanent : permanents) {
+            Assert.assertEquals("must have same result for " + permanent.getName(),
+                    filter.match(permanent, game), lockedFilter.match(permanent, game));
+        }
+        Assert.assertEquals(needMatched, countMatched(filter, permanents, game));
+    }
+
+    private int countMatched(FilterPermanent filter, List<Permanent> permanents, Game game) {
+        return (int) permanents.stream().filter(permanent -> filter.match(permanent, game)).count();
+    }
+}
@@ -0,0 +1,49 @@
+package org.mage.test.cards.rules;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+
+/**
+ * Rules text can be cached by card between effects apply, so it must be same as new and must be updated on changes
+ */
+public class RulesTextCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_RulesMustBeUpdatedOnAbilitiesChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        addCard(Zone.HAND, playerA, "Jump", 1); // {U} Target creature gains flying until end of turn.
+
+        runCode("before", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Permanent permanent = getPermanent("Grizzly Bears", player);
+            List<String> rules = permanent.getRules(game);
+            Assert.assertFalse("must not have flying", hasFlying(rules));
+
+            // result is a copy, so it can be modified by caller
+            rules.add("Flying");
+            Assert.assertFalse("must not have flying after result modification", hasFlying(permanent.getRules(game)));
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Jump", "Grizzly Bears");
+
+        runCode("after", 1, PhaseStep.POSTCOMBAT_MAIN, playerA, (info, player, game) -> {
+            Permanent permanent = getPermanent("Grizzly Bears", player);
+            Assert.assertTrue("must have flying", hasFlying(permanent.getRules(game)));
+            Assert.assertEquals("cached rules must be same", permanent.getRules(game), permanent.getRules(game));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private boolean hasFlying(List<String> rules) {
+        return rules.stream().anyMatch(rule -> rule.startsWith("Flying"));
+    }
+}
@@ -0,0 +1,52 @@
+package org.mage.test.cards.single.acr;
+
+import mage.abilities.keyword.HexproofAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+public class ShayCormacTest extends CardTestPlayerBase {
+
+    private static final String shay = "Shay Cormac";
+    // {1}: Permanents your opponents control lose hexproof, indestructible, protection, shroud, and ward until end of turn.
+    // Whenever a creature an opponent controls becomes the target of a spell or ability you control, put a bounty counter on that creature.
+    // Whenever a creature with a bounty counter on it dies, put two +1/+1 counters on Shay Cormac.
+
+    @Test
+    public void testLoseHexproofAndProtection() {
+        addCard(Zone.BATTLEFIELD, playerA, shay, 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Slippery Bogle", 1); // 1/1, hexproof
+        addCard(Zone.BATTLEFIELD, playerB, "Silver Knight", 1); // 2/2, first strike, protection from red
+
+        activateAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "{1}:");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", "Slippery Bogle");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", "Silver Knight");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerB, "Slippery Bogle", 1);
+        assertGraveyardCount(playerB, "Silver Knight", 1);
+    }
+
+    @Test
+    public void testUntilEndOfTurn() {
+        addCard(Zone.BATTLEFIELD, playerA, shay, 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Slippery Bogle", 1); // 1/1, hexproof
+
+        activateAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "{1}:");
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        assertAbility(playerB, "Slippery Bogle", HexproofAbility.getInstance(), true);
+    }
+}
@@ -0,0 +1,61 @@
+package org.mage.test.game;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import mage.game.permanent.Battlefield;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Battlefield's count and contains checks can stop on needed amount, so it must return same results on boundaries
+ */
+public class BattlefieldCountTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_CountAndContains() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 2);
+
+        runCode("check", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Battlefield battlefield = game.getBattlefield();
+
+            // all creatures
+            Assert.assertEquals(5, battlefield.count(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game));
+            Assert.assertTrue(battlefield.contains(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 0));
+            Assert.assertTrue(battlefield.contains(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 4));
+            Assert.assertTrue(battlefield.contains(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 5));
+            Assert.assertFalse(battlefield.contains(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 6));
+
+            // other controllers must be filtered out
+            Assert.assertEquals(3, battlefield.count(StaticFilters.FILTER_CONTROLLED_CREATURE, playerA.getId(), null, game));
+            Assert.assertTrue(battlefield.contains(StaticFilters.FILTER_CONTROLLED_CREATURE, playerA.getId(), null, game, 2));
+            Assert.assertTrue(battlefield.contains(StaticFilters.FILTER_CONTROLLED_CREATURE, playerA.getId(), null, game, 3));
+            Assert.assertFalse(battlefield.contains(StaticFilters.FILTER_CONTROLLED_CREATURE, playerA.getId(), null, game, 4));
+            Assert.assertEquals(3, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), game));
+            Assert.assertTrue(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 2));
+            Assert.assertTrue(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 3));
+            Assert.assertFalse(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 4));
+            Assert.assertTrue(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), null, game, 2));
+            Assert.assertFalse(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), null, game, 3));
+
+            // phased out permanents must be ignored
+            Permanent bear = getPermanent("Grizzly Bears", playerA);
+            bear.phaseOut(game);
+            Assert.assertEquals(4, battlefield.count(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game));
+            Assert.assertFalse(battlefield.contains(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 5));
+            Assert.assertEquals(2, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), game));
+            Assert.assertTrue(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 2));
+            Assert.assertFalse(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 3));
+            bear.phaseIn(game);
+            Assert.assertTrue(battlefield.containsControlled(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), null, game, 3));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
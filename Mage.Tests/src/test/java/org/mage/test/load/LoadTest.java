@@ -496,7 +496,7 @@ public class LoadTest {
         // play multiple EMPTY games with SERVER side only (without AI),
         // all players on the server side, you don't get any GameView updates here
 
-        final int MAX_GAMES = 10; // games to run
+        final int MAX_GAMES = 10; // games to run (use thousands for server with virtualThreadsActivated, see config.xml)
         final boolean START_GAMES_AT_ONCE = true; // set true to run ALL games parallel (e.g. test max parallel limit)
 
         Instant startTime = Instant.now();
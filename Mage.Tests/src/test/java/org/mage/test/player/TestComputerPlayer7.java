@@ -24,6 +24,8 @@ public final class TestComputerPlayer7 extends ComputerPlayer7 {
 
     public TestComputerPlayer7(String name, RangeOfInfluence range, int skill) {
         super(name, range, skill);
+        // parallel search uses own nodes limit per root action, so results can be different from single thread
+        setParallelRootSearch(false);
     }
 
     public void setTestPlayerLink(TestPlayer testPlayerLink) {
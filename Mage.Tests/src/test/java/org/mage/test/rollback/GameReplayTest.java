@@ -0,0 +1,83 @@
+package org.mage.test.rollback;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.server.game.GameReplay;
+import mage.server.game.GameReplayWriter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * Replay file writes in background and reads states on demand
+ */
+public class GameReplayTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_ReplayFileMustRestoreStates() throws IOException {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertLife(playerB, 20 - 3);
+
+        GameReplayWriter writer = new GameReplayWriter(currentGame.getId());
+        writer.saveState(currentGame.getState().copy());
+        currentGame.getState().getPlayer(playerB.getId()).setLife(10, currentGame, null);
+        writer.saveState(currentGame.getState().copy());
+        currentGame.getState().getPlayer(playerB.getId()).setLife(5, currentGame, null);
+        writer.saveState(currentGame.getState().copy());
+        Assert.assertTrue(writer.finish(currentGame));
+        writer.saveState(currentGame.getState().copy()); // must ignore states after finish
+        GameReplayWriter.waitPendingWrites();
+
+        GameReplay replay = new GameReplay(currentGame.getId());
+        try {
+            Assert.assertNotNull(replay.getGame());
+            Assert.assertEquals(currentGame.getId(), replay.getGame().getId());
+
+            replay.start();
+            GameState state = replay.next();
+            Assert.assertNotNull(state);
+            Assert.assertEquals(17, state.getPlayer(playerB.getId()).getLife());
+            Assert.assertEquals(1, state.getPlayer(playerA.getId()).getGraveyard().size());
+
+            // seek
+            replay.skip(1);
+            Assert.assertEquals(5, replay.next().getPlayer(playerB.getId()).getLife());
+            Assert.assertNull(replay.next());
+            Assert.assertEquals(5, replay.previous().getPlayer(playerB.getId()).getLife());
+            Assert.assertEquals(10, replay.previous().getPlayer(playerB.getId()).getLife());
+        } finally {
+            replay.close();
+            Files.deleteIfExists(Paths.get("saved", currentGame.getId() + ".replay"));
+        }
+    }
+
+    @Test
+    public void test_WrongReplayFileMustBeIgnored() throws IOException {
+        UUID gameId = UUID.randomUUID();
+        Files.createDirectories(Paths.get("saved"));
+        Files.write(Paths.get("saved", gameId + ".replay"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        try {
+            GameReplay replay = new GameReplay(gameId);
+            Assert.assertNull("must not load wrong file", replay.getGame());
+            replay.start();
+            Assert.assertNull(replay.next());
+            replay.close();
+        } finally {
+            Files.deleteIfExists(Paths.get("saved", gameId + ".replay"));
+        }
+    }
+}
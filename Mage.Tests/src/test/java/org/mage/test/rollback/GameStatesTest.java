@@ -0,0 +1,95 @@
+package org.mage.test.rollback;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Older states in history keep as compressed data
+ */
+public class GameStatesTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_CompressedStatesMustRestore() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 3);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        castSpell(3, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertLife(playerB, 20 - 3 - 3);
+
+        GameStates states = new GameStates(1);
+        states.save(currentGame.getState());
+        currentGame.getState().getPlayer(playerB.getId()).setLife(10, currentGame, null);
+        states.save(currentGame.getState());
+        currentGame.getState().getPlayer(playerB.getId()).setLife(5, currentGame, null);
+        states.save(currentGame.getState());
+        GameStates.waitPendingCompress();
+
+        // compressed states restore as new objects
+        GameState state = states.get(0);
+        Assert.assertNotNull(state);
+        Assert.assertNotSame(state, states.get(0));
+        Assert.assertEquals(3, state.getTurnNum());
+        Assert.assertEquals(14, state.getPlayer(playerB.getId()).getLife());
+        Assert.assertEquals(5, state.getBattlefield().getAllActivePermanents(playerA.getId()).size());
+        Assert.assertEquals(2, state.getPlayer(playerA.getId()).getGraveyard().size());
+        Assert.assertEquals(10, states.get(1).getPlayer(playerB.getId()).getLife());
+
+        // last state keeps as object
+        Assert.assertSame(states.get(2), states.get(2));
+        Assert.assertEquals(5, states.get(2).getPlayer(playerB.getId()).getLife());
+
+        // rollback to compressed state
+        state = states.rollback(1);
+        Assert.assertEquals(2, states.getSize());
+        Assert.assertEquals(10, state.getPlayer(playerB.getId()).getLife());
+
+        // new states after rollback
+        states.save(currentGame.getState());
+        Assert.assertEquals(3, states.getSize());
+        Assert.assertEquals(5, states.get(2).getPlayer(playerB.getId()).getLife());
+        Assert.assertEquals(14, states.get(0).getPlayer(playerB.getId()).getLife());
+    }
+
+    @Test
+    public void test_CompressedStateMustBeSameAsOriginal() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Silver Knight", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        // real game state with test players and not executed test actions
+        runCode("compress", 1, PhaseStep.POSTCOMBAT_MAIN, playerA, (info, player, game) -> {
+            GameStates states = new GameStates(0);
+            states.save(game.getState());
+            GameStates.waitPendingCompress();
+
+            GameState state = states.get(0);
+            Assert.assertNotNull("must restore compressed state", state);
+            Assert.assertNotSame("must restore as new object", state, states.get(0));
+            Assert.assertEquals(game.getState().getValue(true, game), state.getValue(true, game));
+            Assert.assertEquals(17, state.getPlayer(playerB.getId()).getLife());
+            Assert.assertEquals(4, state.getBattlefield().getAllActivePermanents().size());
+        });
+        runCode("next actions must work", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            Assert.assertEquals(17, player.getLife());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+}
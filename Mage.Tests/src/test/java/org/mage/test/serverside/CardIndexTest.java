@@ -0,0 +1,71 @@
+package org.mage.test.serverside;
+
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cards search by in-memory index must return same cards as DB query (see CardCriteria.match and buildQuery)
+ */
+public class CardIndexTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SameResultsAsDatabase() {
+        // names (DB uses IGNORECASE mode)
+        assertSameResults("name", () -> new CardCriteria().name("Grizzly Bears"));
+        assertSameResults("name other case", () -> new CardCriteria().name("grizzly BEARS"));
+        assertSameResults("name contains", () -> new CardCriteria().nameContains("bears"));
+        assertSameResults("name contains other case", () -> new CardCriteria().nameContains("BEARS"));
+        assertSameResults("rules", () -> new CardCriteria().rules("flying").setCodes("M10"));
+
+        // sets
+        assertSameResults("set", () -> new CardCriteria().setCodes("M10"));
+        assertSameResults("set other case", () -> new CardCriteria().setCodes("m10"));
+        assertSameResults("sets", () -> new CardCriteria().setCodes("M10", "DOM").rarities(Rarity.RARE, Rarity.MYTHIC));
+        assertSameResults("ignore sets", () -> new CardCriteria().name("Forest").ignoreSetCodes("M10", "lea"));
+
+        // types (like search, so PLANE finds PLANESWALKER too)
+        assertSameResults("type plane", () -> new CardCriteria().types(CardType.PLANE));
+        assertSameResults("type planeswalker", () -> new CardCriteria().types(CardType.PLANESWALKER));
+        assertSameResults("not type plane", () -> new CardCriteria().notTypes(CardType.PLANE).setCodes("WAR"));
+        assertSameResults("types", () -> new CardCriteria().types(CardType.ARTIFACT, CardType.ENCHANTMENT).setCodes("M10"));
+        assertSameResults("supertypes", () -> new CardCriteria().supertypes(SuperType.LEGENDARY).types(CardType.CREATURE).setCodes("DOM"));
+        assertSameResults("not supertypes", () -> new CardCriteria().notSupertypes(SuperType.BASIC).types(CardType.LAND).setCodes("M10"));
+        assertSameResults("subtypes", () -> new CardCriteria().subtypes(SubType.ELF).setCodes("LRW"));
+
+        // other
+        assertSameResults("mana value", () -> new CardCriteria().manaValue(3).setCodes("M10"));
+        assertSameResults("colors", () -> new CardCriteria().black(true).white(true).setCodes("M10"));
+        assertSameResults("colorless", () -> new CardCriteria().colorless(true).setCodes("M10"));
+        assertSameResults("card numbers", () -> new CardCriteria().setCodes("M10").minCardNumber(10).maxCardNumber(20));
+        assertSameResults("double faced", () -> new CardCriteria().doubleFaced(true).setCodes("ISD"));
+        assertSameResults("night cards", () -> new CardCriteria().nightCard(true).setCodes("ISD"));
+        assertSameResults("various art", () -> new CardCriteria().variousArt(true).name("Forest"));
+    }
+
+    private void assertSameResults(String info, Supplier<CardCriteria> criteria) {
+        List<String> indexCards = makeKeys(CardRepository.instance.findCards(criteria.get()));
+        // sorting isn't supported by index, so it uses DB query
+        List<String> dbCards = makeKeys(CardRepository.instance.findCards(criteria.get().setOrderBy("name")));
+        Assert.assertFalse(info + ": must find cards", dbCards.isEmpty());
+        Assert.assertEquals(info + ": must find same cards", dbCards, indexCards);
+    }
+
+    private List<String> makeKeys(List<CardInfo> cards) {
+        return cards.stream()
+                .map(card -> card.getSetCode() + " - " + card.getCardNumber() + " - " + card.getName())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
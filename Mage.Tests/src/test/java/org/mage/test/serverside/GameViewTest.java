@@ -78,4 +78,72 @@ public class GameViewTest extends CardTestPlayerBase {
         gameView = getGameView(null, userWatcher);
         Assert.assertEquals(1, gameView.getWatchedHands().size());
     }
+
+    @Test
+    public void test_GameViewDeltaUpdate() {
+        addCard(Zone.HAND, playerA, "Forest", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        UUID userA = UUID.randomUUID();
+
+        // full view
+        GameView baseView = getGameView(playerA, userA);
+        baseView.setViewVersion(1);
+        Assert.assertFalse(baseView.isDelta());
+
+        // delta view with unchanged player B
+        GameView deltaView = getGameView(playerA, userA);
+        deltaView.makeDelta(1, Arrays.asList(1));
+        deltaView.setViewVersion(2);
+        Assert.assertTrue(deltaView.isDelta());
+        Assert.assertNotNull(deltaView.getPlayers().get(0));
+        Assert.assertNull(deltaView.getPlayers().get(1));
+
+        // can't restore from unknown base
+        GameView wrongBaseView = getGameView(playerA, userA);
+        wrongBaseView.setViewVersion(5);
+        Assert.assertFalse(deltaView.restoreFromDelta(wrongBaseView));
+        Assert.assertFalse(deltaView.restoreFromDelta(null));
+        Assert.assertTrue(deltaView.isDelta());
+
+        // restore from the base
+        Assert.assertTrue(deltaView.restoreFromDelta(baseView));
+        Assert.assertFalse(deltaView.isDelta());
+        Assert.assertSame(baseView.getPlayers().get(1), deltaView.getPlayers().get(1));
+        Assert.assertEquals(playerB.getId(), deltaView.getPlayers().get(1).getPlayerId());
+
+        // full view can't be changed by delta logic
+        GameView fullView = getGameView(playerA, userA);
+        fullView.makeDelta(2, new HashSet<>());
+        Assert.assertFalse(fullView.isDelta());
+        Assert.assertTrue(fullView.restoreFromDelta(null));
+    }
+
+    @Test
+    public void test_GameViewSharedCopy() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameView coreView = getGameView(null, null);
+        GameView copiedView = new GameView(coreView);
+
+        // same data
+        Assert.assertEquals(coreView.getPlayers().size(), copiedView.getPlayers().size());
+        Assert.assertSame(coreView.getPlayers().get(0), copiedView.getPlayers().get(0));
+        Assert.assertEquals(coreView.getTurn(), copiedView.getTurn());
+        Assert.assertEquals(coreView.getStep(), copiedView.getStep());
+
+        // personal data must not affect source view
+        copiedView.getWatchedHands().put(playerA.getName(), null);
+        copiedView.makeDelta(1, Arrays.asList(0));
+        Assert.assertEquals(0, coreView.getWatchedHands().size());
+        Assert.assertNotNull(coreView.getPlayers().get(0));
+        Assert.assertFalse(coreView.isDelta());
+    }
 }
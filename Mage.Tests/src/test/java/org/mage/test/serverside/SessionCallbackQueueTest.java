@@ -0,0 +1,118 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.server.Session;
+import mage.server.managers.ManagerFactory;
+import mage.server.managers.ThreadExecutor;
+import mage.view.GameView;
+import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
+import org.jboss.remoting.callback.Callback;
+import org.jboss.remoting.callback.InvokerCallbackHandler;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Session's outbound queue: slow client must get game updates which can be restored on client side
+ */
+public class SessionCallbackQueueTest extends CardTestPlayerBase {
+
+    private final List<Runnable> senderTasks = new ArrayList<>();
+    private final List<ClientCallback> sentCallbacks = new ArrayList<>();
+
+    @Test
+    public void test_CoalesceGameUpdatesWithDeltas() {
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        Session session = new Session(makeManagerFactory(), "test", makeCallbackHandler());
+        UUID gameId = currentGame.getId();
+
+        // client doesn't receive data, so all updates wait in the queue
+        session.fireCallback(makeUpdate(gameId, 1, 0)); // full
+        session.fireCallback(makeUpdate(gameId, 2, 1)); // delta
+        session.fireCallback(makeUpdate(gameId, 3, 2)); // delta, can't replace its own base
+        Assert.assertEquals(0, session.getCallbacksCoalesced());
+        session.fireCallback(makeUpdate(gameId, 4, 0)); // full, replaces not sent delta
+        Assert.assertEquals(1, session.getCallbacksCoalesced());
+        session.fireCallback(makeUpdate(gameId, 5, 4)); // delta
+        Assert.assertEquals(1, session.getCallbacksCoalesced());
+
+        // send all
+        Assert.assertEquals(1, senderTasks.size());
+        senderTasks.forEach(Runnable::run);
+        Assert.assertEquals(0, session.getCallbackQueueSize());
+
+        // client side: each delta must be restored from the last received view (see GamePanel.updateGame)
+        List<Long> receivedVersions = new ArrayList<>();
+        GameView lastView = null;
+        for (ClientCallback callback : sentCallbacks) {
+            callback.decompressData();
+            GameView view = (GameView) callback.getData();
+            if (view.isDelta()) {
+                Assert.assertTrue("delta must have known base, version " + view.getViewVersion(), view.restoreFromDelta(lastView));
+            }
+            receivedVersions.add(view.getViewVersion());
+            lastView = view;
+        }
+        Assert.assertEquals("[1, 2, 4, 5]", receivedVersions.toString());
+    }
+
+    private ClientCallback makeUpdate(UUID gameId, long version, long deltaBaseVersion) {
+        GameView gameView = getGameView(playerA);
+        if (deltaBaseVersion > 0) {
+            gameView.makeDelta(deltaBaseVersion, Collections.singletonList(1));
+        }
+        gameView.setViewVersion(version);
+        ClientCallback callback = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, gameView);
+        callback.setSelfContained(!gameView.isDelta());
+        return callback;
+    }
+
+    private ManagerFactory makeManagerFactory() {
+        // sender task runs by test code only
+        ExecutorService callbackExecutor = (ExecutorService) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{ExecutorService.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("execute")) {
+                        senderTasks.add((Runnable) args[0]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        ThreadExecutor threadExecutor = (ThreadExecutor) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{ThreadExecutor.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getCallbackExecutor")) {
+                        return callbackExecutor;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return (ManagerFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{ManagerFactory.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("threadExecutor")) {
+                        return threadExecutor;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private InvokerCallbackHandler makeCallbackHandler() {
+        return (InvokerCallbackHandler) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{AsynchInvokerCallbackHandler.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("handleCallbackOneway")) {
+                        sentCallbacks.add((ClientCallback) ((Callback) args[0]).getCallbackObject());
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
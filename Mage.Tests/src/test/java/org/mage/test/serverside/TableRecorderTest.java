@@ -0,0 +1,118 @@
+package org.mage.test.serverside;
+
+import mage.game.result.ResultProtos;
+import mage.server.managers.UserManager;
+import mage.server.record.TableRecordRepository;
+import mage.server.record.TableRecorderImpl;
+import mage.server.record.UserStats;
+import mage.server.record.UserStatsRepository;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table records: write-behind queue must save all tables by batches and update user stats (with cache)
+ */
+public class TableRecorderTest {
+
+    private final List<List<String>> resetBatches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    private final CountDownLatch firstBatchRelease = new CountDownLatch(1);
+
+    // all test records must be removed from the shared records and stats DBs
+    private final String prefix = "rec-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    private final long endTime = System.currentTimeMillis();
+
+    @After
+    public void tearDown() {
+        firstBatchRelease.countDown();
+        TableRecorderImpl.waitPendingWrites();
+        TableRecordRepository.instance.removeBetween(endTime + 1, endTime + 4);
+        UserStatsRepository.instance.removeUsers(Arrays.asList(prefix + "A", prefix + "B", prefix + "C", prefix + "D"));
+    }
+
+    @Test
+    public void test_RecordsMustBeWrittenByBatches() throws Exception {
+        TableRecorderImpl recorder = new TableRecorderImpl(makeUserManager());
+
+        // first table: writer thread starts first batch and waits in stats reset
+        recorder.record(makeTable(prefix + "table1", endTime + 1, prefix + "A", prefix + "B"));
+        Assert.assertTrue("first batch must start", firstBatchStarted.await(30, TimeUnit.SECONDS));
+
+        // next tables: must be queued while writer is busy and saved by one batch
+        recorder.record(makeTable(prefix + "table2", endTime + 2, prefix + "A", prefix + "C"));
+        recorder.record(makeTable(prefix + "table3", endTime + 3, prefix + "B", prefix + "C"));
+        firstBatchRelease.countDown();
+        TableRecorderImpl.waitPendingWrites();
+
+        Assert.assertEquals("must have two batches", 2, resetBatches.size());
+        Assert.assertEquals(Arrays.asList(prefix + "A", prefix + "B"), sorted(resetBatches.get(0)));
+        Assert.assertEquals(Arrays.asList(prefix + "A", prefix + "B", prefix + "C"), sorted(resetBatches.get(1)));
+
+        // stats
+        Assert.assertEquals(2, getMatches(prefix + "A"));
+        Assert.assertEquals(2, getMatches(prefix + "B"));
+        Assert.assertEquals(2, getMatches(prefix + "C"));
+
+        // cache: same user must be returned without DB reload, and it must be updated on write (write-through)
+        UserStats cachedStats = UserStatsRepository.instance.getUser(prefix + "A");
+        Assert.assertSame("must use cached user", cachedStats, UserStatsRepository.instance.getUser(prefix + "A"));
+        recorder.record(makeTable(prefix + "table4", endTime + 4, prefix + "A", prefix + "D"));
+        TableRecorderImpl.waitPendingWrites();
+        Assert.assertNotSame("must update cached user", cachedStats, UserStatsRepository.instance.getUser(prefix + "A"));
+        Assert.assertEquals(3, getMatches(prefix + "A"));
+        Assert.assertEquals(1, getMatches(prefix + "D"));
+
+        // cleanup
+        tearDown();
+        Assert.assertTrue("must remove test records", TableRecordRepository.instance.getAfter(endTime).isEmpty());
+        Assert.assertNull("must remove test stats", UserStatsRepository.instance.getUser(prefix + "A"));
+    }
+
+    private ResultProtos.TableProto makeTable(String tableName, long endTimeMs, String... playerNames) {
+        ResultProtos.MatchProto.Builder match = ResultProtos.MatchProto.newBuilder().setName(tableName);
+        for (String playerName : playerNames) {
+            match.addPlayers(ResultProtos.MatchPlayerProto.newBuilder().setName(playerName).setHuman(true));
+        }
+        return ResultProtos.TableProto.newBuilder()
+                .setName(tableName)
+                .setControllerName(playerNames[0])
+                .setStartTimeMs(endTimeMs)
+                .setEndTimeMs(endTimeMs)
+                .setMatch(match)
+                .build();
+    }
+
+    private int getMatches(String userName) {
+        UserStats userStats = UserStatsRepository.instance.getUser(userName);
+        Assert.assertNotNull("must have stats for " + userName, userStats);
+        return userStats.getProto().getMatches();
+    }
+
+    private List<String> sorted(List<String> list) {
+        List<String> res = new ArrayList<>(list);
+        Collections.sort(res);
+        return res;
+    }
+
+    private UserManager makeUserManager() {
+        return (UserManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{UserManager.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("resetUserStats")) {
+                        @SuppressWarnings("unchecked")
+                        List<String> names = (List<String>) args[0];
+                        resetBatches.add(names);
+                        firstBatchStarted.countDown();
+                        Assert.assertTrue("first batch must be released", firstBatchRelease.await(30, TimeUnit.SECONDS));
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
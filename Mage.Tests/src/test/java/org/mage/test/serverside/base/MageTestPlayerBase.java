@@ -159,7 +159,7 @@ public abstract class MageTestPlayerBase {
             directory.mkdirs();
         }
         File[] files = directory.listFiles(
-                (dir, name) -> name.endsWith(".game")
+                (dir, name) -> name.endsWith(".game") || name.endsWith(".replay")
         );
         for (File file : files) {
             file.delete();
@@ -23,6 +23,16 @@ public class CopyGameStatePerformanceTest extends CardTestPlayerBase {
         }
         long t2 = System.currentTimeMillis();
         System.out.println("Test took: " + (t2-t1) + " ms");
+
+        // simulations use shared cards (copy-on-access)
+        System.out.println("Started simulations...");
+        t1 = System.currentTimeMillis();
+        for (int i = 0; i < 2000; i++) {
+            Game game = currentGame.createSimulationForAI();
+            Game game2 = game.createSimulationForAI();
+        }
+        t2 = System.currentTimeMillis();
+        System.out.println("Test took: " + (t2-t1) + " ms");
     }
 
     public static void main(String[] args) {
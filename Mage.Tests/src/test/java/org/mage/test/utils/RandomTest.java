@@ -7,6 +7,7 @@ import mage.constants.Outcome;
 import mage.constants.PlanarDieRollResult;
 import mage.constants.RangeOfInfluence;
 import mage.game.Game;
+import mage.game.GameOptions;
 import mage.game.TwoPlayerDuel;
 import mage.game.mulligan.MulliganType;
 import mage.player.human.HumanPlayer;
@@ -23,6 +24,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -73,6 +75,46 @@ public class RandomTest {
         Assert.assertNotEquals("different seed must have different deck", infoSameA, infoDifferent);
     }
 
+    @Test
+    public void test_ContextRandom() {
+        Random gameRandom = new Random(123);
+        int needValue = new Random(123).nextInt();
+
+        Random prevRandom = RandomUtil.setContextRandom(gameRandom);
+        try {
+            Assert.assertSame("must use context random", gameRandom, RandomUtil.getRandom());
+            Assert.assertEquals("must use context random", needValue, RandomUtil.nextInt());
+        } finally {
+            RandomUtil.setContextRandom(prevRandom);
+        }
+        Assert.assertNotSame("must restore global random", gameRandom, RandomUtil.getRandom());
+    }
+
+    @Test
+    public void test_SeedAndSameGameRandoms() {
+        RandomUtil.setSeed(123);
+        Game gameA = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 20, 7);
+        RandomUtil.setSeed(123);
+        Game gameB = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 20, 7);
+        Assert.assertEquals("same seed must have same game random", gameA.getRandomSeed(), gameB.getRandomSeed());
+        gameA.setGameOptions(new GameOptions());
+        gameB.setGameOptions(new GameOptions());
+
+        // copies use own randoms and don't change original's random
+        Game copyA1 = gameA.copy();
+        Game copyA2 = gameA.copy();
+        Game copyB1 = gameB.copy();
+        Assert.assertNotSame(gameA.getRandom(), copyA1.getRandom());
+        Assert.assertNotSame(copyA1.getRandom(), copyA2.getRandom());
+        Assert.assertNotEquals("copy must have own random", gameA.getRandomSeed(), copyA1.getRandomSeed());
+        Assert.assertEquals("copies amount must not change copy's random", copyA1.getRandomSeed(), copyA2.getRandomSeed());
+        Assert.assertEquals("same copies must have same randoms", copyA1.getRandomSeed(), copyB1.getRandomSeed());
+        Assert.assertEquals("copy of copy must have same random", copyA1.copy().getRandomSeed(), copyB1.copy().getRandomSeed());
+        Assert.assertNotEquals("caller's index must split random",
+                RandomUtil.makeSplitSeed(copyA1.getRandomSeed(), 1), RandomUtil.makeSplitSeed(copyA2.getRandomSeed(), 2));
+        Assert.assertEquals("copy must not change original random", gameA.getRandom().nextInt(), gameB.getRandom().nextInt());
+    }
+
     @Test
     @Ignore
     public void test_GenerateRandomPng() throws IOException {
@@ -1298,6 +1298,24 @@ public class VerifyCardDataTest {
                     Watcher w2 = w1.copy();
                     if (w2 == null) {
                         errorsList.add("Error: can't copy watcher with unknown error, look at error logs above: " + watcherClass.getName());
+                    } else {
+                        // round-trip: copy must have same data, but without shared collections
+                        List<Field> fields = new ArrayList<>();
+                        fields.addAll(Arrays.asList(watcherClass.getDeclaredFields()));
+                        fields.addAll(Arrays.asList(Watcher.class.getDeclaredFields()));
+                        for (Field field : fields) {
+                            if (Modifier.isStatic(field.getModifiers())) {
+                                continue;
+                            }
+                            field.setAccessible(true);
+                            Object value1 = field.get(w1);
+                            Object value2 = field.get(w2);
+                            if (!isSameData(value1, value2, new IdentityHashMap<>())) {
+                                errorsList.add("Error: watcher's copy has another value in field " + field.getName() + ": " + watcherClass.getName());
+                            } else if (value1 != null && value1 == value2 && (value1 instanceof Collection || value1 instanceof Map)) {
+                                errorsList.add("Error: watcher's copy must not share collection in field " + field.getName() + ": " + watcherClass.getName());
+                            }
+                        }
                     }
                 } catch (Exception e) {
                     errorsList.add("Error: can't copy watcher: " + watcherClass.getName() + " (" + e.getMessage() + ")");
@@ -1315,6 +1333,108 @@ public class VerifyCardDataTest {
         }
     }
 
+    /**
+     * Structural compare of copied data, so classes without own equals can be compared too
+     * (java's classes use own equals, other classes compare all fields)
+     */
+    private static boolean isSameData(Object value1, Object value2, Map<Object, Object> visited) {
+        if (value1 == value2) {
+            return true;
+        }
+        if (value1 == null || value2 == null) {
+            return false;
+        }
+        if (visited.get(value1) == value2) {
+            // cycle
+            return true;
+        }
+        visited.put(value1, value2);
+
+        // collections can use another implementation in copy, so compare data only
+        Class<?> type = value1.getClass();
+        if (type.isArray() && value2.getClass().isArray()) {
+            int length = Array.getLength(value1);
+            if (length != Array.getLength(value2)) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (!isSameData(Array.get(value1, i), Array.get(value2, i), visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value1 instanceof Map && value2 instanceof Map) {
+            Map<?, ?> map1 = (Map<?, ?>) value1;
+            Map<?, ?> map2 = (Map<?, ?>) value2;
+            if (map1.size() != map2.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : map1.entrySet()) {
+                if (!map2.containsKey(entry.getKey())
+                        || !isSameData(entry.getValue(), map2.get(entry.getKey()), visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value1 instanceof Collection && value2 instanceof Collection && !(value1 instanceof Set)) {
+            // lists, queues: same order
+            Collection<?> collection1 = (Collection<?>) value1;
+            Collection<?> collection2 = (Collection<?>) value2;
+            if (collection1.size() != collection2.size()) {
+                return false;
+            }
+            Iterator<?> iterator2 = collection2.iterator();
+            for (Object item1 : collection1) {
+                if (!isSameData(item1, iterator2.next(), visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value1 instanceof Set && value2 instanceof Set) {
+            Collection<?> collection1 = (Collection<?>) value1;
+            Collection<?> collection2 = (Collection<?>) value2;
+            if (collection1.size() != collection2.size()) {
+                return false;
+            }
+            for (Object item1 : collection1) {
+                if (collection2.stream().noneMatch(item2 -> isSameData(item1, item2, new IdentityHashMap<>(visited)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!type.equals(value2.getClass())) {
+            return false;
+        }
+        if (value1 instanceof Number && !(value1 instanceof Comparable)) {
+            // atomic numbers
+            return ((Number) value1).longValue() == ((Number) value2).longValue();
+        }
+        if (type.getName().startsWith("java.") || type.isEnum()) {
+            return value1.equals(value2);
+        }
+
+        for (Class<?> current = type; current != null && !current.getName().startsWith("java."); current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    if (!isSameData(field.get(value1), field.get(value2), visited)) {
+                        return false;
+                    }
+                } catch (IllegalAccessException | RuntimeException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Test
     @Ignore  // TODO: enable test after massive token fixes
     public void test_checkMissingTokenData() {
@@ -12,6 +12,7 @@ import mage.util.Copyable;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +40,11 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     private List<TriggeredAbility> processingNeed = new ArrayList<>();
     private List<TriggeredAbility> processingDone = new ArrayList<>();
 
+    // fast triggers search by event type (only triggers that can accept the event, same order as full list)
+    // auto-generated data (on first usage of each event type), reset on any triggers remove, don't copy
+    private transient Map<GameEvent.EventType, List<TriggeredAbility>> eventTypesIndex = new EnumMap<>(GameEvent.EventType.class);
+    private static final Map<Class<?>, Boolean> eventTypesSupportedClasses = new ConcurrentHashMap<>();
+
     public TriggeredAbilities() {
     }
 
@@ -78,7 +84,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     public void checkStateTriggers(Game game) {
         makeSureNotProcessing(null);
 
-        processingStart(null);
+        processingStart(null, this.values());
         boolean needErrorChecksOnEnd = true;
         try {
             for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
@@ -98,10 +104,10 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        processingStart(event);
-        boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(getTriggersForEventType(event.getType()));
+        processingStart(event, currentTriggers);
+        boolean needErrorChecksOnEnd = true;
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -130,16 +136,107 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
-    private void processingStart(GameEvent newEvent) {
+    private void processingStart(GameEvent newEvent, Collection<TriggeredAbility> needTriggers) {
         makeSureNotProcessing(newEvent);
 
         this.processingStarted = true;
         this.processingStartedEvent = newEvent == null ? null : newEvent.getType();
         this.processingNeed.clear();
-        this.processingNeed.addAll(this.values());
+        this.processingNeed.addAll(needTriggers);
         this.processingDone.clear();
     }
 
+    /**
+     * Triggers that can be used by event type (keep same order as full triggers list)
+     */
+    private List<TriggeredAbility> getTriggersForEventType(GameEvent.EventType eventType) {
+        if (eventTypesIndex == null) {
+            eventTypesIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        List<TriggeredAbility> res = eventTypesIndex.get(eventType);
+        if (res == null) {
+            res = new ArrayList<>();
+            for (TriggeredAbility ability : this.values()) {
+                if (canUseEventType(ability, eventType)) {
+                    res.add(ability);
+                }
+            }
+            eventTypesIndex.put(eventType, res);
+        }
+        return res;
+    }
+
+    private static boolean canUseEventType(TriggeredAbility ability, GameEvent.EventType eventType) {
+        Set<GameEvent.EventType> eventTypes = getSupportedEventTypes(ability);
+        return eventTypes == null || eventTypes.contains(eventType);
+    }
+
+    /**
+     * Event types of the trigger for fast search. It's safe to use only if checkEventType and getCheckedEventTypes
+     * declared in the same class (e.g. child class can override checkEventType without event types list)
+     *
+     * @return null for unknown event types (must check all events)
+     */
+    public static Set<GameEvent.EventType> getSupportedEventTypes(TriggeredAbility ability) {
+        Set<GameEvent.EventType> eventTypes = ability.getCheckedEventTypes();
+        if (eventTypes == null) {
+            return null;
+        }
+        boolean supported = eventTypesSupportedClasses.computeIfAbsent(ability.getClass(), clazz -> {
+            try {
+                return clazz.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass()
+                        == clazz.getMethod("getCheckedEventTypes").getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        });
+        return supported ? eventTypes : null;
+    }
+
+    private void resetEventTypesIndex() {
+        if (eventTypesIndex != null) {
+            eventTypesIndex.clear();
+        }
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        TriggeredAbility oldAbility = super.put(key, ability);
+        if (oldAbility != null) {
+            // replace keeps old position in the list
+            resetEventTypesIndex();
+        } else if (eventTypesIndex != null) {
+            // new trigger added to the end of the list
+            eventTypesIndex.forEach((eventType, triggers) -> {
+                if (canUseEventType(ability, eventType)) {
+                    triggers.add(ability);
+                }
+            });
+        }
+        return oldAbility;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends TriggeredAbility> m) {
+        super.putAll(m);
+        resetEventTypesIndex();
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility oldAbility = super.remove(key);
+        if (oldAbility != null) {
+            resetEventTypesIndex();
+        }
+        return oldAbility;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        resetEventTypesIndex();
+    }
+
     private void processingDone(TriggeredAbility trigger) {
         this.processingDone.add(trigger);
     }
@@ -151,40 +248,21 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
                 throw new IllegalArgumentException("Triggers integrity failed: can't finish event before start");
             }
 
-            // must use ability's id to check equal (rules can be diff due usage of dynamic values - alternative to card hints)
-            List<UUID> needIds = new ArrayList<>();
-            String needInfo = this.processingNeed.stream()
-                    .peek(a -> needIds.add(a.getId()))
-                    .map(t -> "- " + t)
-                    .sorted()
-                    .collect(Collectors.joining("\n"));
-            List<UUID> doneIds = new ArrayList<>();
-            String doneInfo = this.processingDone.stream()
-                    .peek(a -> doneIds.add(a.getId()))
-                    .map(t -> "- " + t)
-                    .sorted()
-                    .collect(Collectors.joining("\n"));
-            String errorInfo = ""
-                    + "\n" + "Need: "
-                    + "\n" + (needInfo.isEmpty() ? "-" : needInfo)
-                    + "\n" + "Done: "
-                    + "\n" + (doneInfo.isEmpty() ? "-" : doneInfo);
-
             if (this.enableIntegrityCheck4_EventMustProcessAllOldTriggers
                     && this.processingDone.size() < this.processingNeed.size()) {
-                throw new IllegalArgumentException("Triggers integrity failed: event processing miss some triggers" + errorInfo);
+                throw new IllegalArgumentException("Triggers integrity failed: event processing miss some triggers" + getProcessingErrorInfo());
             }
 
             if (this.enableIntegrityCheck5_EventMustProcessInSameOrder
                     && this.processingDone.size() > 0
                     && this.processingDone.size() == this.processingNeed.size()
-                    && !needIds.toString().equals(doneIds.toString())) {
-                throw new IllegalArgumentException("Triggers integrity failed: event processing used wrong order" + errorInfo);
+                    && !isSameProcessingOrder()) {
+                throw new IllegalArgumentException("Triggers integrity failed: event processing used wrong order" + getProcessingErrorInfo());
             }
 
             if (this.enableIntegrityCheck6_EventMustNotProcessNewTriggers
                     && this.processingDone.size() > this.processingNeed.size()) {
-                throw new IllegalArgumentException("Triggers integrity failed: event processing must not process new triggers" + errorInfo);
+                throw new IllegalArgumentException("Triggers integrity failed: event processing must not process new triggers" + getProcessingErrorInfo());
             }
         }
 
@@ -194,6 +272,33 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         this.processingDone.clear();
     }
 
+    private boolean isSameProcessingOrder() {
+        // must use ability's id to check equal (rules can be diff due usage of dynamic values - alternative to card hints)
+        for (int i = 0; i < this.processingNeed.size(); i++) {
+            if (!Objects.equals(this.processingNeed.get(i).getId(), this.processingDone.get(i).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getProcessingErrorInfo() {
+        // error info only (it's slow, so must be generated on error only)
+        String needInfo = this.processingNeed.stream()
+                .map(t -> "- " + t)
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        String doneInfo = this.processingDone.stream()
+                .map(t -> "- " + t)
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        return ""
+                + "\n" + "Need: "
+                + "\n" + (needInfo.isEmpty() ? "-" : needInfo)
+                + "\n" + "Done: "
+                + "\n" + (doneInfo.isEmpty() ? "-" : doneInfo);
+    }
+
     private void checkTrigger(TriggeredAbility ability, GameEvent event, Game game) {
         // for effects like when leaves battlefield or destroyed use ShortLKI to check if permanent was in the correct zone before (e.g. Oblivion Ring or Karmic Justice)
         if (this.enableIntegrityLogs) {
@@ -295,11 +400,15 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        if (keySet().removeIf(key -> key.endsWith(sourceId.toString()))) {
+            resetEventTypesIndex();
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        if (this.keySet().removeAll(sources.keySet())) {
+            resetEventTypesIndex();
+        }
         sources.clear();
     }
 
@@ -309,9 +418,11 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
+        if (entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
                 && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())))) {
+            resetEventTypesIndex();
+        }
     }
 
     @Override
@@ -4,6 +4,7 @@ import mage.abilities.condition.Condition;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,6 +21,15 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Optional list of event types from checkEventType, used for fast triggers search by event type.
+     * Must be overridden together with checkEventType in the same class, otherwise it will be ignored.
+     * Called on each triggers index update, so return a static read only set instead of new set per call.
+     *
+     * @return null for unknown or dynamic event types (trigger will be checked for all events)
+     */
+    Set<GameEvent.EventType> getCheckedEventTypes();
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
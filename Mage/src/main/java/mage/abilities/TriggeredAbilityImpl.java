@@ -126,6 +126,12 @@ public abstract class TriggeredAbilityImpl extends AbilityImpl implements Trigge
         game.getState().setValue(keyGameTriggeredCount, lastCount + 1);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        // unknown by default, see TriggeredAbilities for event types index
+        return null;
+    }
+
     @Override
     public TriggeredAbilityImpl setTriggerPhrase(String triggerPhrase) {
         this.triggerPhrase = triggerPhrase;
@@ -12,8 +12,11 @@ import mage.target.targetpointer.FixedTargets;
 import mage.util.CardUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +24,8 @@ import java.util.stream.Collectors;
  */
 public class AttacksWithCreaturesTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.DECLARED_ATTACKERS));
+
     // retrieve the number of attackers in triggered effects with getValue
     public static final String VALUEKEY_NUMBER_ATTACKERS = "number_attackers";
 
@@ -70,6 +75,11 @@ public class AttacksWithCreaturesTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return CHECKED_EVENT_TYPES;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!isControlledBy(game.getCombat().getAttackingPlayerId())) {
@@ -12,11 +12,17 @@ import mage.game.stack.StackObject;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author North
  */
 public class BecomesTargetSourceTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.TARGETED));
+
     private final FilterStackObject filter;
     private final SetTargetPointer setTargetPointer;
 
@@ -52,6 +58,11 @@ public class BecomesTargetSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.TARGETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return CHECKED_EVENT_TYPES;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getTargetId().equals(getSourceId())) {
@@ -9,11 +9,17 @@ import mage.game.Game;
 import mage.game.events.DamagedPermanentEvent;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
 public class DealtDamageToSourceTriggeredAbility extends TriggeredAbilityImpl implements BatchTriggeredAbility<DamagedPermanentEvent> {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PERMANENT));
+
     public DealtDamageToSourceTriggeredAbility(Effect effect, boolean optional) {
         this(effect, optional, false);
     }
@@ -41,6 +47,11 @@ public class DealtDamageToSourceTriggeredAbility extends TriggeredAbilityImpl im
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_ONE_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return CHECKED_EVENT_TYPES;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // all events in the batch are always relevant if triggers at all
@@ -9,13 +9,18 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public class EntersBattlefieldTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD));
+
     static public boolean ENABLE_TRIGGER_PHRASE_AUTO_FIX = false;
 
     public EntersBattlefieldTriggeredAbility(Effect effect) {
@@ -41,6 +46,11 @@ public class EntersBattlefieldTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return CHECKED_EVENT_TYPES;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(getSourceId())) {
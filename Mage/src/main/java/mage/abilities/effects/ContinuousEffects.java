@@ -54,7 +54,7 @@ public class ContinuousEffects implements Serializable {
     private final ApplyStatusEffect applyStatus;
     private final AuraReplacementEffect auraReplacementEffect;
 
-    private final Map<String, ContinuousEffectsList<ContinuousEffect>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers
+    private final Map<String, Set<ContinuousEffect>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers
 
     public ContinuousEffects() {
         applyStatus = new ApplyStatusEffect();
@@ -78,9 +78,8 @@ public class ContinuousEffects implements Serializable {
 
         costModificationEffects = effect.costModificationEffects.copy();
         spliceCardEffects = effect.spliceCardEffects.copy();
-        for (Map.Entry<String, ContinuousEffectsList<ContinuousEffect>> entry : effect.lastEffectsListOnLayer.entrySet()) {
-            lastEffectsListOnLayer.put(entry.getKey(), entry.getValue().copy());
-        }
+        // lastEffectsListOnLayer: effects compared by refs, so copied effects are always new for the timestamps
+        // and there are no needs to copy old lists (all timestamps will be updated on first apply in copied game)
         collectAllEffects();
         order = effect.order;
     }
@@ -233,10 +232,7 @@ public class ContinuousEffects implements Serializable {
      * @param layerEffects
      */
     private synchronized void updateTimestamps(String timestampGroupName, List<ContinuousEffect> layerEffects) {
-        if (!lastEffectsListOnLayer.containsKey(timestampGroupName)) {
-            lastEffectsListOnLayer.put(timestampGroupName, new ContinuousEffectsList<>());
-        }
-        ContinuousEffectsList<ContinuousEffect> prevs = lastEffectsListOnLayer.get(timestampGroupName);
+        Set<ContinuousEffect> prevs = lastEffectsListOnLayer.computeIfAbsent(timestampGroupName, k -> new HashSet<>());
         for (ContinuousEffect continuousEffect : layerEffects) {
             // check if it's new, then set order
             if (!prevs.contains(continuousEffect)) {
@@ -252,9 +248,14 @@ public class ContinuousEffects implements Serializable {
     }
 
     private List<ContinuousEffect> filterLayeredEffects(List<ContinuousEffect> effects, Layer layer) {
-        return effects.stream()
-                .filter(effect -> effect.hasLayer(layer))
-                .collect(Collectors.toList());
+        // calls many times per apply, so no streams here
+        List<ContinuousEffect> res = new ArrayList<>();
+        for (ContinuousEffect effect : effects) {
+            if (effect.hasLayer(layer)) {
+                res.add(effect);
+            }
+        }
+        return res;
     }
 
     public Map<RequirementEffect, Set<Ability>> getApplicableRequirementEffects(Permanent permanent, boolean playerRelated, Game game) {
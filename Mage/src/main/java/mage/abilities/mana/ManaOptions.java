@@ -24,6 +24,7 @@ import java.util.*;
  * <p>
  * A LinkedHashSet is used to get the performance benefits of automatic de-duplication of the Mana
  * to avoid performance issues related with manual de-duplication (see https://github.com/magefree/mage/issues/7710).
+ * Mana compare in big options lists uses packed mana values (see PackedMana).
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
  */
@@ -63,6 +64,9 @@ public class ManaOptions extends LinkedHashSet<Mana> {
             //perform a union of all existing options and the new options
             List<Mana> copy = new ArrayList<>(this);
             this.clear();
+            // same options as in the set, but with packed values for fast compare
+            List<Mana> options = new ArrayList<>();
+            long[] packedOptions = new long[16];
             for (ActivatedManaAbilityImpl ability : abilities) {
                 for (Mana netMana : ability.getNetMana(game)) {
                     checkManaReplacementAndTriggeredMana(ability, game, netMana);
@@ -72,18 +76,35 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(triggeredManaVariation);
-                            for (Mana existingMana : this) {
-                                if (existingMana.equalManaValue(newMana)) {
-                                    continue SkipAddMana;
+                            long newPacked = PackedMana.pack(newMana);
+                            for (int i = 0; i < options.size(); i++) {
+                                Mana existingMana = options.get(i);
+                                Mana moreValuable;
+                                if (newPacked != PackedMana.NOT_PACKED && packedOptions[i] != PackedMana.NOT_PACKED) {
+                                    if (newPacked == packedOptions[i]) {
+                                        continue SkipAddMana;
+                                    }
+                                    int compareRes = PackedMana.compareValue(newPacked, packedOptions[i]);
+                                    moreValuable = compareRes > 0 ? newMana : (compareRes < 0 ? existingMana : null);
+                                } else {
+                                    if (existingMana.equalManaValue(newMana)) {
+                                        continue SkipAddMana;
+                                    }
+                                    moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
                                 }
-                                Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
                                 if (moreValuable != null) {
                                     // only keep the more valuable mana
                                     existingMana.setToMana(moreValuable);
+                                    packedOptions[i] = PackedMana.pack(existingMana);
                                     continue SkipAddMana;
                                 }
                             }
                             this.add(newMana);
+                            if (options.size() == packedOptions.length) {
+                                packedOptions = Arrays.copyOf(packedOptions, packedOptions.length * 2);
+                            }
+                            packedOptions[options.size()] = newPacked;
+                            options.add(newMana);
                         }
                     }
 
@@ -535,39 +556,37 @@ public class ManaOptions extends LinkedHashSet<Mana> {
      */
     public void removeFullyIncludedVariations() {
         List<Mana> that = new ArrayList<>(this);
-        Set<String> list = new HashSet<>();
-
-        for (int i = this.size() - 1; i >= 0; i--) {
-            String s;
-            if (that.get(i) instanceof ConditionalMana) {
-                s = that.get(i).toString() + ((ConditionalMana) that.get(i)).getConditionString();
-            } else {
-                s = that.get(i).toString();
-            }
-            if (s.isEmpty()) {
-                this.remove(i);
-            } else if (list.contains(s)) {
-                // remove duplicated
-                this.remove(i);
-            } else {
-                list.add(s);
-            }
+        long[] packed = new long[that.size()];
+        for (int i = 0; i < that.size(); i++) {
+            packed[i] = PackedMana.pack(that.get(i));
         }
 
         // Remove fully included variations
-        for (int i = this.size() - 1; i >= 0; i--) {
+        boolean[] removed = new boolean[that.size()];
+        for (int i = that.size() - 1; i >= 0; i--) {
             for (int ii = 0; ii < i; ii++) {
-                Mana moreValuable = Mana.getMoreValuableMana(that.get(i), that.get(ii));
+                Mana moreValuable;
+                if (packed[i] != PackedMana.NOT_PACKED && packed[ii] != PackedMana.NOT_PACKED) {
+                    int compareRes = PackedMana.compareValue(packed[i], packed[ii]);
+                    moreValuable = compareRes > 0 ? that.get(i) : (compareRes < 0 ? that.get(ii) : null);
+                } else {
+                    moreValuable = Mana.getMoreValuableMana(that.get(i), that.get(ii));
+                }
                 if (moreValuable != null) {
                     that.get(ii).setToMana(moreValuable);
-                    that.remove(i);
+                    packed[ii] = PackedMana.pack(that.get(ii));
+                    removed[i] = true;
                     break;
                 }
             }
         }
 
         this.clear();
-        this.addAll(that);
+        for (int i = 0; i < that.size(); i++) {
+            if (!removed[i]) {
+                this.add(that.get(i));
+            }
+        }
     }
 
     /**
@@ -0,0 +1,115 @@
+package mage.abilities.mana;
+
+import mage.ConditionalMana;
+import mage.Mana;
+
+/**
+ * Mana packed to one long (8 bits per mana type) for fast compare in mana options calculations
+ * <p>
+ * Only simple mana can be packed: conditional, flagged or too big mana must use Mana methods.
+ */
+final class PackedMana {
+
+    static final long NOT_PACKED = -1L;
+
+    private static final int LANE_BITS = 8;
+    private static final int LANE_MAX = (1 << LANE_BITS) - 1;
+
+    // lanes order
+    private static final int WHITE = 0;
+    private static final int BLUE = 1;
+    private static final int BLACK = 2;
+    private static final int RED = 3;
+    private static final int GREEN = 4;
+    private static final int GENERIC = 5;
+    private static final int COLORLESS = 6;
+    private static final int ANY = 7;
+
+    private PackedMana() {
+    }
+
+    /**
+     * @return NOT_PACKED if mana can't be packed
+     */
+    static long pack(Mana mana) {
+        if (mana instanceof ConditionalMana || mana.getFlag()) {
+            return NOT_PACKED;
+        }
+        long res = packLane(mana.getWhite(), WHITE)
+                | packLane(mana.getBlue(), BLUE)
+                | packLane(mana.getBlack(), BLACK)
+                | packLane(mana.getRed(), RED)
+                | packLane(mana.getGreen(), GREEN)
+                | packLane(mana.getGeneric(), GENERIC)
+                | packLane(mana.getColorless(), COLORLESS)
+                | packLane(mana.getAny(), ANY);
+        return res < 0 ? NOT_PACKED : res;
+    }
+
+    private static long packLane(int value, int lane) {
+        if (value < 0 || value > LANE_MAX) {
+            return NOT_PACKED; // all bits, so full result will be NOT_PACKED too
+        }
+        return (long) value << (lane * LANE_BITS);
+    }
+
+    private static int get(long packed, int lane) {
+        return (int) (packed >>> (lane * LANE_BITS)) & LANE_MAX;
+    }
+
+    private static int countColored(long packed) {
+        return get(packed, WHITE) + get(packed, BLUE) + get(packed, BLACK) + get(packed, RED) + get(packed, GREEN) + get(packed, ANY);
+    }
+
+    /**
+     * Same logic as Mana.getMoreValuableMana
+     *
+     * @return 1 if first mana is more valuable, -1 if second mana is more valuable, 0 if same or can't be compared
+     */
+    static int compareValue(long packed1, long packed2) {
+        if (packed1 == packed2) {
+            return 0;
+        }
+
+        int colored1 = countColored(packed1);
+        int colored2 = countColored(packed2);
+        int colorless1 = get(packed1, COLORLESS);
+        int colorless2 = get(packed2, COLORLESS);
+        long more;
+        long less;
+        int res;
+        if (get(packed2, ANY) > get(packed1, ANY)
+                || colorless2 > colorless1
+                || colored2 > colored1
+                || (colored2 == colored1
+                && colorless2 == colorless1
+                && get(packed2, GENERIC) > get(packed1, GENERIC))) {
+            more = packed2;
+            less = packed1;
+            res = -1;
+        } else {
+            more = packed1;
+            less = packed2;
+            res = 1;
+        }
+
+        int anyDiff = get(more, ANY) - get(less, ANY);
+        if (anyDiff < 0) {
+            return 0;
+        }
+        if (get(less, COLORLESS) > get(more, COLORLESS)) {
+            return 0; // Any (color) can't produce colorless mana
+        }
+
+        for (int lane = WHITE; lane <= GREEN; lane++) {
+            int colorDiff = get(less, lane) - get(more, lane);
+            if (colorDiff > 0) {
+                anyDiff -= colorDiff;
+                if (anyDiff < 0) {
+                    return 0;
+                }
+            }
+        }
+        return res;
+    }
+}
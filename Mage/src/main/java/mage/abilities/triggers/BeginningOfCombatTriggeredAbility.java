@@ -6,8 +6,14 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfCombatTriggeredAbility extends AtStepTriggeredAbility {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE));
+
     /**
      * At the beginning of combat on your turn (optional = false)
      */
@@ -44,6 +50,11 @@ public class BeginningOfCombatTriggeredAbility extends AtStepTriggeredAbility {
         return event.getType() == GameEvent.EventType.BEGIN_COMBAT_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return CHECKED_EVENT_TYPES;
+    }
+
     @Override
     protected String generateTriggerPhrase() {
         switch (targetController) {
@@ -7,8 +7,14 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfEndStepTriggeredAbility extends AtStepTriggeredAbility {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE));
+
     /**
      * At the beginning of your end step (optional = false)
      */
@@ -50,6 +56,11 @@ public class BeginningOfEndStepTriggeredAbility extends AtStepTriggeredAbility {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return CHECKED_EVENT_TYPES;
+    }
+
     @Override
     protected String generateTriggerPhrase() {
         switch (targetController) {
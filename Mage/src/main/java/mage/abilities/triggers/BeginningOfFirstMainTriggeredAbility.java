@@ -6,11 +6,17 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
 public class BeginningOfFirstMainTriggeredAbility extends AtStepTriggeredAbility {
 
+    private static final Set<GameEvent.EventType> CHECKED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.PRECOMBAT_MAIN_PHASE_PRE));
+
     /**
      * At the beginning of your first main phase (optional = false)
      */
@@ -47,6 +53,11 @@ public class BeginningOfFirstMainTriggeredAbility extends AtStepTriggeredAbility
         return event.getType() == GameEvent.EventType.PRECOMBAT_MAIN_PHASE_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getCheckedEventTypes() {
+        return CHECKED_EVENT_TYPES;
+    }
+
     @Override
     protected String generateTriggerPhrase() {
         switch (targetController) {
@@ -31,7 +31,8 @@ public interface Card extends MageObject, Ownerable {
     void setOwnerId(UUID ownerId);
 
     /**
-     * For cards: return all basic and dynamic abilities
+     * For cards: return all basic and dynamic abilities (cached until card state changes, so the result is read only,
+     * use addAbility/removeAbility for changes)
      * For permanents: return all basic and dynamic abilities
      *
      * @param game
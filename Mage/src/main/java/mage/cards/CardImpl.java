@@ -34,6 +34,8 @@ import org.apache.log4j.Logger;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public abstract class CardImpl extends MageObjectImpl implements Card {
 
@@ -56,6 +58,11 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     protected List<UUID> attachments = new ArrayList<>();
     protected boolean extraDeckCard = false;
 
+    // last result of getAbilities(game), card object can be shared between game copies (AI simulations), so
+    // cache must be replaced as whole object
+    private transient volatile CachedAbilities cachedAbilities = null;
+    private transient volatile CachedRules cachedRules = null;
+
     protected CardImpl(UUID ownerId, CardSetInfo setInfo, CardType[] cardTypes, String costs) {
         this(ownerId, setInfo, cardTypes, costs, SpellAbilityType.BASE);
     }
@@ -237,7 +244,23 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     @Override
     public List<String> getRules(Game game) {
         Abilities<Ability> sourceAbilities = this.getAbilities(game);
-        return CardUtil.getCardRulesWithAdditionalInfo(game, this, sourceAbilities, sourceAbilities);
+        return CardUtil.getCardRulesWithAdditionalInfo(game, this, () -> getAbilitiesRules(sourceAbilities, game), sourceAbilities);
+    }
+
+    /**
+     * Rules text from abilities. Views of the same game state can request rules many times (e.g. game view for
+     * each player), so text keeps until next effects apply or abilities change.
+     */
+    private List<String> getAbilitiesRules(Abilities<Ability> sourceAbilities, Game game) {
+        if (game == null) {
+            return sourceAbilities.getRules();
+        }
+        CachedRules cached = this.cachedRules;
+        if (cached == null || !cached.isActual(sourceAbilities, game.getState())) {
+            cached = new CachedRules(sourceAbilities.getRules(), sourceAbilities, game.getState());
+            this.cachedRules = cached;
+        }
+        return new ArrayList<>(cached.rules);
     }
 
     /**
@@ -269,6 +292,15 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
             return abilities;
         }
 
+        // all abilities recalculate on card state changes only (main card's state used by flashback workaround)
+        CardState mainCardState = this.getId().equals(this.getMainCard().getId())
+                ? null
+                : game.getState().getCardState(this.getMainCard().getId());
+        CachedAbilities cached = this.cachedAbilities;
+        if (cached != null && cached.isActual(abilities, cardState, mainCardState)) {
+            return cached.abilities;
+        }
+
         // collects all abilities
         Abilities<Ability> all = new AbilitiesImpl<>();
 
@@ -282,7 +314,6 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
         // workaround to add dynamic flashback ability from main card to all parts (example: Snapcaster Mage gives flashback to split card)
         if (!this.getId().equals(this.getMainCard().getId())) {
-            CardState mainCardState = game.getState().getCardState(this.getMainCard().getId());
             if (this.getSpellAbility() != null // lands can't be casted (haven't spell ability), so ignore it
                     && mainCardState != null
                     && !mainCardState.hasLostAllAbilities()
@@ -296,14 +327,16 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
             }
         }
 
-        return all;
+        Abilities<Ability> result = new ReadOnlyAbilities(all);
+        this.cachedAbilities = new CachedAbilities(result, abilities, cardState, mainCardState);
+        return result;
     }
 
     @Override
     public void looseAllAbilities(Game game) {
         CardState cardState = game.getState().getCardState(this.getId());
+        cardState.clearAbilities();
         cardState.setLostAllAbilities(true);
-        cardState.getAbilities().clear();
     }
 
     @Override
@@ -1036,4 +1069,216 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     public boolean isExtraDeckCard() {
         return extraDeckCard;
     }
+
+    /**
+     * Combined abilities of the card for some card state. Shared between getAbilities(game) calls, so it must not be changed.
+     */
+    private static final class CachedAbilities {
+
+        private final Abilities<Ability> abilities;
+        private final Ability[] baseAbilities; // base list can be changed in place (e.g. permanent's abilities on effects apply)
+        private final CardState cardState;
+        private final int cardStateVersion;
+        private final CardState mainCardState;
+        private final int mainCardStateVersion;
+
+        private CachedAbilities(Abilities<Ability> abilities, Abilities<Ability> baseAbilities, CardState cardState, CardState mainCardState) {
+            this.abilities = abilities;
+            this.baseAbilities = baseAbilities.toArray(new Ability[0]);
+            this.cardState = cardState;
+            this.cardStateVersion = cardState.getAbilitiesVersion();
+            this.mainCardState = mainCardState;
+            this.mainCardStateVersion = mainCardState == null ? 0 : mainCardState.getAbilitiesVersion();
+        }
+
+        private boolean isActual(Abilities<Ability> baseAbilities, CardState cardState, CardState mainCardState) {
+            return this.cardState == cardState
+                    && this.cardStateVersion == cardState.getAbilitiesVersion()
+                    && this.mainCardState == mainCardState
+                    && (mainCardState == null || this.mainCardStateVersion == mainCardState.getAbilitiesVersion())
+                    && isSameAbilities(this.baseAbilities, baseAbilities);
+        }
+    }
+
+    /**
+     * Shared result of getAbilities(game), any changes must go to the card or card state instead (e.g. addAbility/removeAbility)
+     */
+    private static final class ReadOnlyAbilities extends AbilitiesImpl<Ability> {
+
+        private ReadOnlyAbilities(Abilities<Ability> abilities) {
+            super.addAll(abilities);
+        }
+
+        @Override
+        public AbilitiesImpl<Ability> copy() {
+            return new AbilitiesImpl<>(this);
+        }
+
+        @Override
+        public boolean add(Ability ability) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public void add(int index, Ability ability) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Ability> c) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends Ability> c) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public Ability set(int index, Ability ability) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public Ability remove(int index) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Ability> filter) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<Ability> operator) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public void sort(Comparator<? super Ability> c) {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Abilities list is read only");
+        }
+
+        @Override
+        public List<Ability> subList(int fromIndex, int toIndex) {
+            return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+        }
+
+        @Override
+        public Iterator<Ability> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<Ability> listIterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<Ability> listIterator(int index) {
+            ListIterator<Ability> iterator = super.listIterator(index);
+            return new ListIterator<Ability>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Ability next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return iterator.hasPrevious();
+                }
+
+                @Override
+                public Ability previous() {
+                    return iterator.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return iterator.nextIndex();
+                }
+
+                @Override
+                public int previousIndex() {
+                    return iterator.previousIndex();
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("Abilities list is read only");
+                }
+
+                @Override
+                public void set(Ability ability) {
+                    throw new UnsupportedOperationException("Abilities list is read only");
+                }
+
+                @Override
+                public void add(Ability ability) {
+                    throw new UnsupportedOperationException("Abilities list is read only");
+                }
+            };
+        }
+    }
+
+    /**
+     * Rules text of the abilities for some game state and effects apply
+     */
+    private static final class CachedRules {
+
+        private final List<String> rules;
+        private final Ability[] abilities;
+        private final GameState state;
+        private final int applyEffectsCounter;
+
+        private CachedRules(List<String> rules, Abilities<Ability> abilities, GameState state) {
+            this.rules = rules;
+            this.abilities = abilities.toArray(new Ability[0]);
+            this.state = state;
+            this.applyEffectsCounter = state.getApplyEffectsCounter();
+        }
+
+        private boolean isActual(Abilities<Ability> abilities, GameState state) {
+            return this.state == state
+                    && this.applyEffectsCounter == state.getApplyEffectsCounter()
+                    && isSameAbilities(this.abilities, abilities);
+        }
+    }
+
+    private static boolean isSameAbilities(Ability[] cached, Abilities<Ability> abilities) {
+        if (cached.length != abilities.size()) {
+            return false;
+        }
+        for (int i = 0; i < cached.length; i++) {
+            if (cached[i] != abilities.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
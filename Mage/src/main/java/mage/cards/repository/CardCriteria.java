@@ -370,6 +370,110 @@ public class CardCriteria {
         }
     }
 
+    /**
+     * Same search as buildQuery, but for in-memory cards index (see CardRepository.findCards)
+     *
+     * @return false if the search is not supported by index (e.g. sorting), so DB must be used
+     */
+    boolean canUseIndex() {
+        return sortBy == null;
+    }
+
+    List<CardInfo> findCards(CardIndex index) {
+        optimize();
+        return index.findCards(row -> match(index, row), start == null ? 0 : start, count == null ? 0 : count);
+    }
+
+    /**
+     * Must find same cards as buildQuery (case insensitive texts and set codes, like search for types)
+     */
+    private boolean match(CardIndex index, int row) {
+        CardInfo card = index.getCard(row);
+        if (nightCard != null && index.isNightCard(row) != nightCard) {
+            return false;
+        }
+        if (index.isSplitCardHalf(row)) {
+            return false;
+        }
+        if (nameContains != null && !CardIndex.containsIgnoreCase(card.getName(), nameContains)) {
+            return false;
+        }
+        // sql eq in IGNORECASE mode
+        if (name != null && !name.equalsIgnoreCase(card.getName())) {
+            return false;
+        }
+        if (rules != null && !CardIndex.containsIgnoreCase(card.rules, rules)) {
+            return false;
+        }
+
+        if (variousArt != null && index.isVariousArt(row) != variousArt) {
+            return false;
+        }
+        if (doubleFaced != null && index.isDoubleFaced(row) != doubleFaced) {
+            return false;
+        }
+        if (modalDoubleFaced != null && index.isModalDoubleFaced(row) != modalDoubleFaced) {
+            return false;
+        }
+
+        if (!rarities.isEmpty() && rarities.stream().noneMatch(rarity -> rarity.ordinal() == index.getRarity(row))) {
+            return false;
+        }
+
+        if (!setCodes.isEmpty() && setCodes.stream().noneMatch(setCode -> setCode.equalsIgnoreCase(card.getSetCode()))) {
+            return false;
+        }
+        if (ignoreSetCodes.stream().anyMatch(setCode -> setCode.equalsIgnoreCase(card.getSetCode()))) {
+            return false;
+        }
+
+        // sql like on types, e.g. PLANE bit is set for PLANESWALKER too
+        int cardTypes = index.getTypes(row);
+        if (types.size() != 7 && !types.isEmpty() && types.stream().noneMatch(type -> (cardTypes & CardIndex.getTypeBit(type)) != 0)) {
+            return false;
+        }
+        if (notTypes.stream().anyMatch(type -> (cardTypes & CardIndex.getTypeBit(type)) != 0)) {
+            return false;
+        }
+
+        int cardSupertypes = index.getSupertypes(row);
+        if (supertypes.stream().anyMatch(type -> (cardSupertypes & CardIndex.getSupertypeBit(type)) == 0)) {
+            return false;
+        }
+        if (notSupertypes.stream().anyMatch(type -> (cardSupertypes & CardIndex.getSupertypeBit(type)) != 0)) {
+            return false;
+        }
+
+        if (subtypes.stream().anyMatch(subType -> !CardIndex.containsIgnoreCase(card.subtypes, subType.toString()))) {
+            return false;
+        }
+
+        if (manaValue != null && index.getManaValue(row) != manaValue) {
+            return false;
+        }
+
+        if (black || blue || green || red || white || colorless) {
+            int cardColors = index.getColors(row);
+            if (!((black && (cardColors & CardIndex.BLACK) != 0)
+                    || (blue && (cardColors & CardIndex.BLUE) != 0)
+                    || (green && (cardColors & CardIndex.GREEN) != 0)
+                    || (red && (cardColors & CardIndex.RED) != 0)
+                    || (white && (cardColors & CardIndex.WHITE) != 0)
+                    || (colorless && cardColors == 0))) {
+                return false;
+            }
+        }
+
+        if (minCardNumber != Integer.MIN_VALUE && index.getCardNumber(row) < minCardNumber) {
+            return false;
+        }
+        if (maxCardNumber != Integer.MAX_VALUE && index.getCardNumber(row) > maxCardNumber) {
+            return false;
+        }
+
+        return true;
+    }
+
     private CardCriteria optimize() {
         // remove rarity
         if (rarities.size() > 0) {
@@ -0,0 +1,300 @@
+package mage.cards.repository;
+
+import mage.constants.CardType;
+import mage.constants.SuperType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * In-memory index with all cards from DB (read only, so it's thread safe and lock free)
+ * <p>
+ * Search data stored as columns (bit masks and primitive arrays), so card criteria and names queries
+ * can be used without DB calls, e.g. by name choose effects in AI simulations. DB is a data source only,
+ * so index must be re-created after any DB changes.
+ * <p>
+ * Text search uses same rules as H2 DB with IGNORECASE mode (case insensitive equals and like), types
+ * search uses same rules as sql like (e.g. PLANE for PLANESWALKER too). Index and DB results must be same, see CardIndexTest.
+ */
+final class CardIndex {
+
+    static final int BLACK = 1;
+    static final int BLUE = 1 << 1;
+    static final int GREEN = 1 << 2;
+    static final int RED = 1 << 3;
+    static final int WHITE = 1 << 4;
+
+    private final CardInfo[] cards;
+
+    // columns
+    private final int[] types; // CardType bits, same as sql like on types, e.g. PLANE for PLANESWALKER too
+    private final int[] supertypes; // SuperType bits
+    private final byte[] colors;
+    private final byte[] rarities; // Rarity ordinal or -1
+    private final int[] manaValues;
+    private final int[] cardNumbers; // numerical card numbers (123b -> 123)
+    private final BitSet nightCards;
+    private final BitSet splitCardHalves;
+    private final BitSet variousArts;
+    private final BitSet doubleFaced;
+    private final BitSet modalDoubleFaced;
+
+    // fast search by key (lower case)
+    private final Map<String, int[]> rowsByName;
+    private final Map<String, int[]> rowsByOtherSideName;
+    private final Map<String, int[]> rowsBySetAndNumber;
+    private final Map<String, int[]> rowsByClassName;
+
+    // names lists like all cards, lands, etc (see CardRepository.getNames)
+    private final Map<String, Set<String>> namesCache = new ConcurrentHashMap<>();
+
+    CardIndex(List<CardInfo> allCards) {
+        int size = allCards.size();
+        this.cards = allCards.toArray(new CardInfo[0]);
+        this.types = new int[size];
+        this.supertypes = new int[size];
+        this.colors = new byte[size];
+        this.rarities = new byte[size];
+        this.manaValues = new int[size];
+        this.cardNumbers = new int[size];
+        this.nightCards = new BitSet(size);
+        this.splitCardHalves = new BitSet(size);
+        this.variousArts = new BitSet(size);
+        this.doubleFaced = new BitSet(size);
+        this.modalDoubleFaced = new BitSet(size);
+
+        Map<String, List<Integer>> byName = new HashMap<>();
+        Map<String, List<Integer>> byOtherSideName = new HashMap<>();
+        Map<String, List<Integer>> bySetAndNumber = new HashMap<>();
+        Map<String, List<Integer>> byClassName = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            CardInfo card = this.cards[row];
+            this.types[row] = makeTypesMask(card.types);
+            this.supertypes[row] = makeSupertypesMask(card.supertypes);
+            this.colors[row] = (byte) ((card.black ? BLACK : 0)
+                    | (card.blue ? BLUE : 0)
+                    | (card.green ? GREEN : 0)
+                    | (card.red ? RED : 0)
+                    | (card.white ? WHITE : 0));
+            this.rarities[row] = (byte) (card.rarity == null ? -1 : card.rarity.ordinal());
+            this.manaValues[row] = card.manaValue;
+            this.cardNumbers[row] = card.cardNumberAsInt;
+            this.nightCards.set(row, card.nightCard);
+            this.splitCardHalves.set(row, card.splitCardHalf);
+            this.variousArts.set(row, card.variousArt);
+            this.doubleFaced.set(row, card.doubleFaced);
+            this.modalDoubleFaced.set(row, card.modalDoubleFacedCard);
+
+            addRow(byName, card.name, row);
+            addRow(byOtherSideName, card.flipCardName, row);
+            addRow(byOtherSideName, card.secondSideName, row);
+            addRow(byOtherSideName, card.spellOptionCardName, row);
+            addRow(byOtherSideName, card.modalDoubleFacedSecondSideName, row);
+            addRow(bySetAndNumber, makeSetAndNumberKey(card.setCode, card.cardNumber), row);
+            addRow(byClassName, card.className, row);
+        }
+        this.rowsByName = makeRowsMap(byName);
+        this.rowsByOtherSideName = makeRowsMap(byOtherSideName);
+        this.rowsBySetAndNumber = makeRowsMap(bySetAndNumber);
+        this.rowsByClassName = makeRowsMap(byClassName);
+    }
+
+    private static int makeTypesMask(String types) {
+        int res = 0;
+        String data = types == null ? "" : types.toUpperCase(Locale.ENGLISH);
+        for (CardType type : CardType.values()) {
+            if (data.contains(type.name())) {
+                res |= getTypeBit(type);
+            }
+        }
+        return res;
+    }
+
+    private static int makeSupertypesMask(String supertypes) {
+        int res = 0;
+        String data = supertypes == null ? "" : supertypes.toUpperCase(Locale.ENGLISH);
+        for (SuperType type : SuperType.values()) {
+            if (data.contains(type.name())) {
+                res |= getSupertypeBit(type);
+            }
+        }
+        return res;
+    }
+
+    static int getTypeBit(CardType type) {
+        return 1 << type.ordinal();
+    }
+
+    static int getSupertypeBit(SuperType type) {
+        return 1 << type.ordinal();
+    }
+
+    private static String makeKey(String value) {
+        return value.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String makeSetAndNumberKey(String setCode, String cardNumber) {
+        if (setCode == null || cardNumber == null) {
+            return null;
+        }
+        return setCode + '-' + cardNumber;
+    }
+
+    private static void addRow(Map<String, List<Integer>> rows, String value, int row) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        rows.computeIfAbsent(makeKey(value), x -> new ArrayList<>()).add(row);
+    }
+
+    private static Map<String, int[]> makeRowsMap(Map<String, List<Integer>> rows) {
+        Map<String, int[]> res = new HashMap<>(rows.size() * 4 / 3 + 1);
+        rows.forEach((key, list) -> res.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return res;
+    }
+
+    static boolean containsIgnoreCase(String text, String search) {
+        if (text == null || search == null) {
+            return false;
+        }
+        int max = text.length() - search.length();
+        for (int i = 0; i <= max; i++) {
+            if (text.regionMatches(true, i, search, 0, search.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return cards.length;
+    }
+
+    CardInfo getCard(int row) {
+        return cards[row];
+    }
+
+    int getTypes(int row) {
+        return types[row];
+    }
+
+    int getSupertypes(int row) {
+        return supertypes[row];
+    }
+
+    int getColors(int row) {
+        return colors[row];
+    }
+
+    int getRarity(int row) {
+        return rarities[row];
+    }
+
+    int getManaValue(int row) {
+        return manaValues[row];
+    }
+
+    int getCardNumber(int row) {
+        return cardNumbers[row];
+    }
+
+    boolean isNightCard(int row) {
+        return nightCards.get(row);
+    }
+
+    boolean isSplitCardHalf(int row) {
+        return splitCardHalves.get(row);
+    }
+
+    boolean isVariousArt(int row) {
+        return variousArts.get(row);
+    }
+
+    boolean isDoubleFaced(int row) {
+        return doubleFaced.get(row);
+    }
+
+    boolean isModalDoubleFaced(int row) {
+        return modalDoubleFaced.get(row);
+    }
+
+    /**
+     * All cards with same filter, like sql query
+     *
+     * @param limit max amount of cards, 0 for all
+     */
+    List<CardInfo> findCards(IntPredicate filter, long offset, long limit) {
+        List<CardInfo> res = new ArrayList<>();
+        long skipped = 0;
+        for (int row = 0; row < cards.length; row++) {
+            if (!filter.test(row)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            res.add(cards[row]);
+            if (limit > 0 && res.size() >= limit) {
+                break;
+            }
+        }
+        return res;
+    }
+
+    List<CardInfo> findCardsByName(String name, long limit) {
+        return findByRows(rowsByName, name, limit);
+    }
+
+    List<CardInfo> findCardsByOtherSideName(String name, long limit) {
+        return findByRows(rowsByOtherSideName, name, limit);
+    }
+
+    List<CardInfo> findCardsBySetAndNumber(String setCode, String cardNumber) {
+        return findByRows(rowsBySetAndNumber, makeSetAndNumberKey(setCode, cardNumber), 0);
+    }
+
+    List<CardInfo> findCardsByClassName(String className) {
+        return findByRows(rowsByClassName, className, 0);
+    }
+
+    private List<CardInfo> findByRows(Map<String, int[]> rowsMap, String value, long limit) {
+        if (value == null) {
+            return new ArrayList<>();
+        }
+        int[] rows = rowsMap.get(makeKey(value));
+        if (rows == null) {
+            return new ArrayList<>();
+        }
+        int amount = limit > 0 ? (int) Math.min(limit, rows.length) : rows.length;
+        List<CardInfo> res = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            res.add(cards[rows[i]]);
+        }
+        return res;
+    }
+
+    /**
+     * Cached names list for cards with same filter
+     *
+     * @param cacheKey   unique key for the filter
+     * @param namesMaker add all card names to the set (see CardRepository.addNewNames)
+     */
+    Set<String> getNames(String cacheKey, IntPredicate filter, NamesMaker namesMaker) {
+        return namesCache.computeIfAbsent(cacheKey, x -> {
+            Set<String> names = new TreeSet<>();
+            for (int row = 0; row < cards.length; row++) {
+                if (filter.test(row)) {
+                    namesMaker.addNames(cards[row], names);
+                }
+            }
+            return names;
+        });
+    }
+
+    @FunctionalInterface
+    interface NamesMaker {
+        void addNames(CardInfo card, Set<String> names);
+    }
+}
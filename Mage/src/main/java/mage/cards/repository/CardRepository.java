@@ -6,7 +6,6 @@ import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
-import com.j256.ormlite.stmt.Where;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.support.DatabaseConnection;
 import com.j256.ormlite.table.TableUtils;
@@ -43,8 +42,8 @@ public enum CardRepository {
 
     private Dao<CardInfo, Object> cardsDao;
 
-    // store names lists like all cards, lands, etc (it's static data and can be calculated one time only)
-    private static final Map<String, Set<String>> namesQueryCache = new HashMap<>();
+    // all cards in memory for fast search without DB calls (must be reset on any DB changes)
+    private volatile CardIndex cardIndex = null;
 
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
@@ -118,6 +117,7 @@ public enum CardRepository {
                 }
                 return null;
             });
+            resetIndex();
 
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
@@ -159,175 +159,88 @@ public enum CardRepository {
         return snowLandSetCodes.contains(setCode);
     }
 
-    public synchronized Set<String> getNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNames() {
+        return findNames("getNames", (index, row) -> true);
     }
 
-    public synchronized Set<String> getNonLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonLandNames() {
+        int landBit = CardIndex.getTypeBit(CardType.LAND);
+        return findNames("getNonLandNames", (index, row) -> (index.getTypes(row) & landBit) == 0);
     }
 
-    public synchronized Set<String> getNonbasicLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonbasicLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("supertypes", '%' + SuperType.BASIC.name() + '%'),
-                    where.like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonbasicLandNames() {
+        int landBit = CardIndex.getTypeBit(CardType.LAND);
+        int basicBit = CardIndex.getSupertypeBit(SuperType.BASIC);
+        return findNames("getNonbasicLandNames", (index, row) -> (index.getTypes(row) & landBit) != 0
+                && (index.getSupertypes(row) & basicBit) == 0);
     }
 
-    public synchronized Set<String> getNotBasicLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNotBasicLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().not().like("supertypes", new SelectArg('%' + SuperType.BASIC.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNotBasicLandNames() {
+        int basicBit = CardIndex.getSupertypeBit(SuperType.BASIC);
+        return findNames("getNotBasicLandNames", (index, row) -> (index.getSupertypes(row) & basicBit) == 0);
     }
 
-    public synchronized Set<String> getCreatureNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getCreatureNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getCreatureNames() {
+        int creatureBit = CardIndex.getTypeBit(CardType.CREATURE);
+        return findNames("getCreatureNames", (index, row) -> (index.getTypes(row) & creatureBit) != 0);
     }
 
-    public synchronized Set<String> getArtifactNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getArtifactNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting artifact names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getArtifactNames() {
+        int artifactBit = CardIndex.getTypeBit(CardType.ARTIFACT);
+        return findNames("getArtifactNames", (index, row) -> (index.getTypes(row) & artifactBit) != 0);
     }
 
-    public synchronized Set<String> getNonLandAndNonCreatureNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonLandAndNonCreatureNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.CREATURE.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land and non-creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
+    public Set<String> getNonLandAndNonCreatureNames() {
+        int landOrCreatureBits = CardIndex.getTypeBit(CardType.LAND) | CardIndex.getTypeBit(CardType.CREATURE);
+        return findNames("getNonLandAndNonCreatureNames", (index, row) -> (index.getTypes(row) & landOrCreatureBits) == 0);
+    }
+
+    public Set<String> getNonArtifactAndNonLandNames() {
+        int landOrArtifactBits = CardIndex.getTypeBit(CardType.LAND) | CardIndex.getTypeBit(CardType.ARTIFACT);
+        return findNames("getNonArtifactAndNonLandNames", (index, row) -> (index.getTypes(row) & landOrArtifactBits) == 0);
+    }
+
+    @FunctionalInterface
+    private interface NamesFilter {
+        boolean test(CardIndex index, int row);
+    }
+
+    /**
+     * Names lists like all cards, lands, etc (it's static data and can be calculated one time only)
+     */
+    private Set<String> findNames(String cacheKey, NamesFilter filter) {
+        CardIndex index = getIndex();
+        if (index == null) {
+            return new TreeSet<>();
         }
-        return names;
+        return index.getNames(cacheKey, row -> filter.test(index, row), this::addNewNames);
     }
 
-    public synchronized Set<String> getNonArtifactAndNonLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonArtifactAndNonLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
+    /**
+     * In-memory index with all cards, it will be loaded from DB on first usage
+     *
+     * @return index or null on DB errors
+     */
+    private CardIndex getIndex() {
+        CardIndex index = this.cardIndex;
+        if (index != null) {
+            return index;
         }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "modalDoubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
+        synchronized (this) {
+            if (this.cardIndex == null) {
+                try {
+                    this.cardIndex = new CardIndex(cardsDao.queryForAll());
+                } catch (SQLException e) {
+                    Logger.getLogger(CardRepository.class).error("Error loading cards index from DB, possible low memory: " + e, e);
+                    processMemoryErrors(e);
+                }
             }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-artifact non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
+            return this.cardIndex;
         }
-        return names;
+    }
+
+    private void resetIndex() {
+        this.cardIndex = null;
     }
 
     public CardInfo findCard(String setCode, String cardNumber) {
@@ -335,6 +248,17 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        CardIndex index = getIndex();
+        if (index != null) {
+            // some double faced cards can use second side card with same number as main side
+            // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
+            List<CardInfo> cards = index.findCardsBySetAndNumber(setCode, cardNumber);
+            return cards.stream()
+                    .filter(card -> !card.isNightCard())
+                    .findFirst()
+                    .orElse(ignoreNightCards || cards.isEmpty() ? null : cards.get(0));
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             if (ignoreNightCards) {
@@ -362,8 +286,37 @@ public enum CardRepository {
         return null;
     }
 
+    /**
+     * All cards from DB in one query (fast check for new cards)
+     *
+     * @return card numbers by set code
+     */
+    public Map<String, Set<String>> getCardNumbersBySet() {
+        Map<String, Set<String>> res = new HashMap<>();
+        try {
+            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
+            qb.selectColumns("setCode", "cardNumber");
+            List<CardInfo> results = cardsDao.query(qb.prepare());
+            for (CardInfo card : results) {
+                res.computeIfAbsent(card.getSetCode(), x -> new HashSet<>()).add(card.getCardNumber());
+            }
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error getting card numbers from DB, possible low memory: " + e, e);
+            processMemoryErrors(e);
+        }
+        return res;
+    }
+
     public List<String> getClassNames() {
         List<String> names = new ArrayList<>();
+        CardIndex index = getIndex();
+        if (index != null) {
+            for (int row = 0; row < index.size(); row++) {
+                names.add(index.getCard(row).getClassName());
+            }
+            return names;
+        }
+
         try {
             List<CardInfo> results = cardsDao.queryForAll();
             for (CardInfo card : results) {
@@ -508,6 +461,50 @@ public enum CardRepository {
      * @canCheckDatabaseHealth try to fix database on any errors (use true anytime except fix methods itself)
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
+        CardIndex index = getIndex();
+        if (index != null) {
+            return findCardsInIndex(index, name, limitByMaxAmount, returnSplitCardHalf);
+        }
+        return findCardsInDB(name, limitByMaxAmount, returnSplitCardHalf, canCheckDatabaseHealth);
+    }
+
+    /**
+     * Same as findCardsInDB, but without DB usage
+     */
+    private List<CardInfo> findCardsInIndex(CardIndex index, String name, long limitByMaxAmount, boolean returnSplitCardHalf) {
+        List<CardInfo> results;
+        if (name.contains(" // ")) {
+            // split card stored under full card name, others can be found by first half (Adventure, MDFC, etc.)
+            results = index.findCardsByName(name, limitByMaxAmount);
+            if (results.isEmpty()) {
+                String mainCardName = name.split(" // ", 2)[0];
+                results = index.findCardsByName(mainCardName, limitByMaxAmount);
+            }
+        } else {
+            results = index.findCardsByName(name, limitByMaxAmount);
+            if (results.isEmpty()) {
+                results = index.findCardsByOtherSideName(name, limitByMaxAmount);
+            } else {
+                // searching for "Fire" instead of "Fire // Ice" must return the main card
+                CardInfo firstCardInfo = results.get(0);
+                if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+                    String fullSplitCardName = index.findCardsBySetAndNumber(firstCardInfo.setCode, firstCardInfo.cardNumber)
+                            .stream()
+                            .filter(CardInfo::isSplitCard)
+                            .map(CardInfo::getName)
+                            .findFirst()
+                            .orElse(null);
+                    if (fullSplitCardName == null) {
+                        return Collections.emptyList();
+                    }
+                    results = index.findCardsByName(fullSplitCardName, limitByMaxAmount);
+                }
+            }
+        }
+        return results;
+    }
+
+    private List<CardInfo> findCardsInDB(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
         List<CardInfo> results;
         QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
         if (limitByMaxAmount > 0) {
@@ -584,6 +581,11 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCardsByClass(String canonicalClassName) {
+        CardIndex index = getIndex();
+        if (index != null) {
+            return index.findCardsByClassName(canonicalClassName);
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
@@ -605,6 +607,11 @@ public enum CardRepository {
      * @return
      */
     public List<CardInfo> findCards(CardCriteria criteria) {
+        CardIndex index = getIndex();
+        if (index != null && criteria.canUseIndex()) {
+            return criteria.findCards(index);
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
@@ -674,6 +681,7 @@ public enum CardRepository {
     }
 
     public void closeDB(boolean writeCompact) {
+        resetIndex();
         try {
             if (cardsDao != null && cardsDao.getConnectionSource() != null) {
                 DatabaseConnection conn = cardsDao.getConnectionSource().getReadWriteConnection(cardsDao.getTableName());
@@ -759,8 +767,8 @@ public enum CardRepository {
     }
 
     private static CardInfo safeFindKnownCard() {
-        // safe find of known card with memory/db fixes
-        return instance.findCards("Silvercoat Lion", 1, false, false)
+        // safe find of known card with memory/db fixes (must check DB, not index)
+        return instance.findCardsInDB("Silvercoat Lion", 1, false, false)
                 .stream()
                 .findFirst()
                 .orElse(null);
@@ -3,10 +3,8 @@ package mage.cards.repository;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author North
@@ -51,37 +49,60 @@ public final class CardScanner {
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
-                    // found new card
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        // Adds only main card, except night cards.
-
-                        // TODO: remove night cards from sets and db someday
-                        // Possible reasons for night cards in sets:
-                        // - direct put night card to battlefield by name in tests;
-                        // - images download;
-                        // - in old days xmage client was able to works without card classes, e.g.
-                        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
-
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
-                }
+        // existing cards loaded by one query, so reflection is used for new cards only (parallel by sets)
+        Map<String, Set<String>> existingCards = CardRepository.instance.getCardNumbersBySet();
+        List<SetScanResult> setResults = Sets.getInstance().values()
+                .parallelStream()
+                .map(set -> scanSetCards(set, existingCards.getOrDefault(set.getCode(), Collections.emptySet())))
+                .collect(Collectors.toList());
+        for (SetScanResult setResult : setResults) {
+            cardsToAdd.addAll(setResult.cards);
+            if (errorsList != null) {
+                errorsList.addAll(setResult.errors);
             }
         }
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
     }
 
+    private static class SetScanResult {
+
+        private final List<CardInfo> cards = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+    }
+
+    private static SetScanResult scanSetCards(ExpansionSet set, Set<String> existingCardNumbers) {
+        SetScanResult res = new SetScanResult();
+        for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
+            if (existingCardNumbers.contains(setInfo.getCardNumber())) {
+                continue;
+            }
+
+            // found new card
+            Card card = CardImpl.createCard(
+                    setInfo.getCardClass(),
+                    new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
+                    res.errors);
+            if (card != null) {
+                // Adds only main card, except night cards.
+
+                // TODO: remove night cards from sets and db someday
+                // Possible reasons for night cards in sets:
+                // - direct put night card to battlefield by name in tests;
+                // - images download;
+                // - in old days xmage client was able to works without card classes, e.g.
+                //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
+
+                res.cards.add(new CardInfo(card));
+                if (card instanceof SplitCard) {
+                    SplitCard splitCard = (SplitCard) card;
+                    res.cards.add(new CardInfo(splitCard.getLeftHalfCard()));
+                    res.cards.add(new CardInfo(splitCard.getRightHalfCard()));
+                }
+            }
+        }
+        return res;
+    }
+
     public static List<Card> getAllCards() {
         return getAllCards(true);
     }
@@ -17,6 +17,7 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected List<Predicate<? super E>> predicates = new ArrayList<>();
     protected String message;
     protected boolean lockedFilter; // Helps to prevent "accidentally" modifying the StaticFilters objects
+    private transient volatile Predicate<? super E>[] compiledPredicates; // locked filters only, cheap checks first
 
     @Override
     public abstract FilterImpl<E> copy();
@@ -34,10 +35,47 @@ public abstract class FilterImpl<E> implements Filter<E> {
 
     @Override
     public boolean match(E e, Game game) {
-        if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+        if (!checkObjectClass(e)) {
+            return false;
         }
-        return false;
+        if (lockedFilter) {
+            for (Predicate<? super E> predicate : getCompiledPredicates()) {
+                if (!predicate.apply(e, game)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = 0; i < predicates.size(); i++) {
+            if (!predicates.get(i).apply(e, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Locked filters can't be changed, so predicates can be prepared once: cheap checks of the object's
+     * own characteristics go first (see Predicates.isCheapPredicate), others keep the declaration order
+     */
+    private Predicate<? super E>[] getCompiledPredicates() {
+        Predicate<? super E>[] res = compiledPredicates;
+        if (res == null) {
+            List<Predicate<? super E>> list = new ArrayList<>(predicates.size());
+            for (Predicate<? super E> predicate : predicates) {
+                if (Predicates.isCheapPredicate(predicate)) {
+                    list.add(predicate);
+                }
+            }
+            for (Predicate<? super E> predicate : predicates) {
+                if (!Predicates.isCheapPredicate(predicate)) {
+                    list.add(predicate);
+                }
+            }
+            res = list.toArray(new Predicate[0]);
+            compiledPredicates = res;
+        }
+        return res;
     }
 
     @Override
@@ -75,6 +113,7 @@ public abstract class FilterImpl<E> implements Filter<E> {
     @Override
     public void setLockedFilter(boolean lockedFilter) {
         this.lockedFilter = lockedFilter;
+        this.compiledPredicates = null;
     }
 
     public List<Predicate<? super E>> getPredicates() {
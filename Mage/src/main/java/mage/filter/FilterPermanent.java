@@ -57,7 +57,12 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
             return false;
         }
         ObjectSourcePlayer<Permanent> osp = new ObjectSourcePlayer<>(permanent, playerId, source);
-        return extraPredicates.stream().allMatch(p -> p.apply(osp, game));
+        for (int i = 0; i < extraPredicates.size(); i++) {
+            if (!extraPredicates.get(i).apply(osp, game)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public final void add(ObjectSourcePlayerPredicate predicate) {
@@ -1,5 +1,14 @@
 package mage.filter.predicate;
 
+import mage.constants.CardType;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.ColorlessPredicate;
+import mage.filter.predicate.mageobject.MonocoloredPredicate;
+import mage.filter.predicate.mageobject.MulticoloredPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
 import mage.game.Game;
 
 import java.lang.reflect.ParameterizedType;
@@ -151,8 +160,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().allMatch(predicate -> predicate.apply(t, game));
-
+            for (int i = 0; i < components.size(); i++) {
+                if (!components.get(i).apply(t, game)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
@@ -176,7 +189,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().anyMatch(predicate -> predicate.apply(t, game));
+            for (int i = 0; i < components.size(); i++) {
+                if (components.get(i).apply(t, game)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -227,6 +245,22 @@ public final class Predicates {
         return sb.toString();
     }
 
+    /**
+     * Cheap predicate checks the object's own characteristics or status only (no game lookups or other objects),
+     * so filters can run it before other predicates
+     */
+    public static boolean isCheapPredicate(Predicate predicate) {
+        return predicate instanceof CardType.CardTypePredicate
+                || predicate instanceof SuperType.SuperTypePredicate
+                || predicate instanceof SubType.SubTypePredicate
+                || predicate instanceof ColorPredicate
+                || predicate instanceof ColorlessPredicate
+                || predicate instanceof MonocoloredPredicate
+                || predicate instanceof MulticoloredPredicate
+                || predicate instanceof TappedPredicate
+                || predicate instanceof TokenPredicate;
+    }
+
     /**
      * Collect real predicates for searching some data (see dependency effect code)
      */
@@ -22,6 +22,7 @@ public class CardState implements Serializable, Copyable<CardState> {
     protected Abilities<Ability> abilities;
     protected boolean lostAllAbilities;
     protected boolean melded;
+    protected int abilitiesVersion; // changes on any dynamic abilities change, see CardImpl.getAbilities(game)
 
     private static final Map<String, String> emptyInfo = new HashMap<>();
     private static final Abilities<Ability> emptyAbilities = new AbilitiesImpl<>();
@@ -42,6 +43,7 @@ public class CardState implements Serializable, Copyable<CardState> {
         }
         this.lostAllAbilities = state.lostAllAbilities;
         this.melded = state.melded;
+        this.abilitiesVersion = state.abilitiesVersion;
     }
 
     @Override
@@ -92,6 +94,7 @@ public class CardState implements Serializable, Copyable<CardState> {
         }
         abilities.add(ability);
         abilities.addAll(ability.getSubAbilities());
+        abilitiesVersion++;
     }
 
     /**
@@ -100,6 +103,7 @@ public class CardState implements Serializable, Copyable<CardState> {
     public void clearAbilities() {
         if (abilities != null) {
             abilities = null;
+            abilitiesVersion++;
         }
         setLostAllAbilities(false);
     }
@@ -116,7 +120,14 @@ public class CardState implements Serializable, Copyable<CardState> {
     }
 
     public void setLostAllAbilities(boolean lostAllAbilities) {
-        this.lostAllAbilities = lostAllAbilities;
+        if (this.lostAllAbilities != lostAllAbilities) {
+            this.lostAllAbilities = lostAllAbilities;
+            abilitiesVersion++;
+        }
+    }
+
+    public int getAbilitiesVersion() {
+        return abilitiesVersion;
     }
 
     public boolean isMelded() {
@@ -286,6 +286,11 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
      */
     Game createSimulationForAI();
 
+    /**
+     * Prepare game for long living AI simulations like search tree (full copy, so original game can be changed later)
+     */
+    Game createFullSimulationForAI();
+
     /**
      * Prepare game for any playable calc (available mana/abilities)
      */
@@ -293,6 +298,14 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
 
     boolean inCheckPlayableState();
 
+    /**
+     * Game's own random (game and simulation threads use it for all RandomUtil calls),
+     * each game copy gets new random with split seed (same for all copies, copy doesn't change the original game)
+     */
+    Random getRandom();
+
+    long getRandomSeed();
+
     MageObject getLastKnownInformation(UUID objectId, Zone zone);
 
     CardState getLastKnownInformationCard(UUID objectId, Zone zone);
@@ -596,6 +609,11 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
 
     void setSaveGame(boolean saveGame);
 
+    /**
+     * Replay states destination for save game mode, without recorder the states keep in game states history
+     */
+    void setReplayRecorder(GameReplayRecorder replayRecorder);
+
     // game options
     void setGameOptions(GameOptions options);
 
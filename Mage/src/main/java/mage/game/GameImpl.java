@@ -95,6 +95,8 @@ import java.util.stream.Collectors;
 public abstract class GameImpl implements Game {
 
     private static final int ROLLBACK_TURNS_MAX = 4;
+    private static final boolean SIMULATION_SHARE_GAME_CARDS = true; // simulations use copy-on-access for game cards instead full copy
+    private static final ThreadLocal<Boolean> makingSimulation = ThreadLocal.withInitial(() -> Boolean.FALSE);
     private static final String UNIT_TESTS_ERROR_TEXT = "Error in unit tests";
     private static final Logger logger = Logger.getLogger(GameImpl.class);
 
@@ -109,6 +111,10 @@ public abstract class GameImpl implements Game {
 
     protected final UUID id;
 
+    // shuffles, coin flips, etc: each game and game copy uses own random (see RandomUtil.setContextRandom)
+    private final long randomSeed;
+    private final Random random;
+
     protected boolean ready;
     protected transient TableEventSource tableEventSource = new TableEventSource();
     protected transient PlayerQueryEventSource playerQueryEventSource = new PlayerQueryEventSource();
@@ -151,6 +157,7 @@ public abstract class GameImpl implements Game {
 
     private boolean scopeRelevant = false; // replacement effects: used to indicate that currently applied replacement effects have to check for scope relevance (614.12 13/01/18)
     private boolean saveGame = false; // replay code, not done
+    private transient GameReplayRecorder replayRecorder = null; // replay states destination, don't copy
     private int priorityTime; // Match time limit (per player). Set at the start of the match and only goes down.
     private int bufferTime; // Buffer time before priority time starts going down. Buffer time is refreshed every time the timer starts.
     private final int startingLife;
@@ -169,6 +176,8 @@ public abstract class GameImpl implements Game {
 
     public GameImpl(MultiplayerAttackOption attackOption, RangeOfInfluence range, Mulligan mulligan, int minimumDeckSize, int startingLife, int startingHandSize) {
         this.id = UUID.randomUUID();
+        this.randomSeed = RandomUtil.nextLong();
+        this.random = new Random(this.randomSeed);
         this.range = range;
         this.mulligan = mulligan;
         this.attackOption = attackOption;
@@ -191,11 +200,24 @@ public abstract class GameImpl implements Game {
         this.id = game.id;
         this.totalErrorsCount.set(game.totalErrorsCount.get());
 
+        // copy must not change the original game (random values and state), so it uses new random with split seed,
+        // all copies of the game get same seed, callers can split it by own index (e.g. parallel AI tasks)
+        this.randomSeed = RandomUtil.makeSplitSeed(game.randomSeed, 0);
+        this.random = new Random(this.randomSeed);
+
         this.ready = game.ready;
         //this.tableEventSource = game.tableEventSource; // client-server part, not need on copy/simulations
         //this.playerQueryEventSource = game.playerQueryEventSource; // client-server part, not need on copy/simulations
 
-        this.gameCards = CardUtil.deepCopyObject(game.gameCards);
+        if (SIMULATION_SHARE_GAME_CARDS && makingSimulation.get()) {
+            // simulation: cards will be copied on first usage only, see SharedCardsMap
+            this.gameCards = new SharedCardsMap(game.gameCards);
+        } else if (game.gameCards instanceof SharedCardsMap) {
+            // full copy of the simulation (source must keep shared cards as is, it can be used by other threads)
+            this.gameCards = ((SharedCardsMap) game.gameCards).copyAll();
+        } else {
+            this.gameCards = CardUtil.deepCopyObject(game.gameCards);
+        }
         this.meldCards = CardUtil.deepCopyObject(game.meldCards);
 
         this.lki = CardUtil.deepCopyObject(game.lki);
@@ -254,6 +276,14 @@ public abstract class GameImpl implements Game {
 
     @Override
     public Game createSimulationForAI() {
+        Game res = this.copyForSimulation();
+        ((GameImpl) res).simulation = true;
+        ((GameImpl) res).aiGame = true;
+        return res;
+    }
+
+    @Override
+    public Game createFullSimulationForAI() {
         Game res = this.copy();
         ((GameImpl) res).simulation = true;
         ((GameImpl) res).aiGame = true;
@@ -262,12 +292,36 @@ public abstract class GameImpl implements Game {
 
     @Override
     public Game createSimulationForPlayableCalc() {
-        Game res = this.copy();
+        Game res = this.copyForSimulation();
         ((GameImpl) res).simulation = true;
         ((GameImpl) res).checkPlayableState = true;
         return res;
     }
 
+    /**
+     * Simulation's copy with shared data (copy-on-access), see SharedCardsMap
+     * <p>
+     * Warning, original game must not be changed while simulation in use
+     */
+    private Game copyForSimulation() {
+        makingSimulation.set(Boolean.TRUE);
+        try {
+            return this.copy();
+        } finally {
+            makingSimulation.set(Boolean.FALSE);
+        }
+    }
+
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
+    @Override
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
     @Override
     public boolean inCheckPlayableState() {
         return checkPlayableState;
@@ -804,7 +858,14 @@ public abstract class GameImpl implements Game {
     @Override
     public void saveState(boolean bookmark) {
         if (!simulation && gameStates != null) {
-            if (bookmark || saveGame) {
+            if (saveGame && replayRecorder != null) {
+                // replay gets priority states only, history keeps bookmarks for undo
+                if (bookmark) {
+                    gameStates.save(state);
+                } else {
+                    replayRecorder.saveState(state.copy());
+                }
+            } else if (bookmark || saveGame) {
                 gameStates.save(state);
             }
         }
@@ -1034,10 +1095,15 @@ public abstract class GameImpl implements Game {
 
     @Override
     public void start(UUID choosingPlayerId) {
-        startTime = new Date();
-        if (state.getPlayers().values().iterator().hasNext()) {
-            init(choosingPlayerId);
-            play(startingPlayerId);
+        Random prevRandom = RandomUtil.setContextRandom(random);
+        try {
+            startTime = new Date();
+            if (state.getPlayers().values().iterator().hasNext()) {
+                init(choosingPlayerId);
+                play(startingPlayerId);
+            }
+        } finally {
+            RandomUtil.setContextRandom(prevRandom);
         }
     }
 
@@ -1170,26 +1236,31 @@ public abstract class GameImpl implements Game {
 
     @Override
     public void resume() {
-        playerList = state.getPlayerList(state.getActivePlayerId());
-        Player player = getPlayer(playerList.get());
-        boolean wasPaused = state.isPaused();
-        state.resume();
-        if (!checkIfGameIsOver()) {
-            fireInformEvent("Turn " + state.getTurnNum());
-            if (checkStopOnTurnOption()) {
-                return;
-            }
-            state.getTurn().resumePlay(this, wasPaused);
-            if (!isPaused() && !checkIfGameIsOver()) {
-                endOfTurn();
-                Player nextPlayer = playerList.getNext(this, true);
-                if (nextPlayer != null) {
-                    player = nextPlayer;
+        Random prevRandom = RandomUtil.setContextRandom(random);
+        try {
+            playerList = state.getPlayerList(state.getActivePlayerId());
+            Player player = getPlayer(playerList.get());
+            boolean wasPaused = state.isPaused();
+            state.resume();
+            if (!checkIfGameIsOver()) {
+                fireInformEvent("Turn " + state.getTurnNum());
+                if (checkStopOnTurnOption()) {
+                    return;
+                }
+                state.getTurn().resumePlay(this, wasPaused);
+                if (!isPaused() && !checkIfGameIsOver()) {
+                    endOfTurn();
+                    Player nextPlayer = playerList.getNext(this, true);
+                    if (nextPlayer != null) {
+                        player = nextPlayer;
+                    }
+                    state.setTurnNum(state.getTurnNum() + 1);
                 }
-                state.setTurnNum(state.getTurnNum() + 1);
             }
+            play(player.getId());
+        } finally {
+            RandomUtil.setContextRandom(prevRandom);
         }
-        play(player.getId());
     }
 
     private boolean checkStopOnTurnOption() {
@@ -3885,6 +3956,11 @@ public abstract class GameImpl implements Game {
         this.saveGame = saveGame;
     }
 
+    @Override
+    public void setReplayRecorder(GameReplayRecorder replayRecorder) {
+        this.replayRecorder = replayRecorder;
+    }
+
     public void setStartMessage(String startMessage) {
         this.startMessage = startMessage;
     }
@@ -0,0 +1,14 @@
+package mage.game;
+
+/**
+ * Replay recording of the game states (e.g. server writes it to replay file instead keeping in memory)
+ * <p>
+ * Called from game thread, so it must not make long operations like file writes.
+ */
+public interface GameReplayRecorder {
+
+    /**
+     * @param state copy of the current game state, recorder owns it and can use it in any thread
+     */
+    void saveState(GameState state);
+}
@@ -447,6 +447,82 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * AI related: fast version of getValue(useHidden) for often usage like simulations,
+     * it uses 64 bit hash of the same state data instead big string (permanents order is ignored)
+     */
+    public long getValueHash(boolean useHidden) {
+        long hash = makeValueHash(turnNum);
+        hash = combineValueHash(hash, Objects.hashCode(getTurnPhaseType()));
+        hash = combineValueHash(hash, Objects.hashCode(getTurnStepType()));
+        hash = combineValueHash(hash, Objects.hashCode(activePlayerId));
+        hash = combineValueHash(hash, Objects.hashCode(priorityPlayerId));
+        hash = combineValueHash(hash, Objects.hashCode(playerByOrderId));
+
+        for (Player player : players.values()) {
+            hash = combineValueHash(hash, player.isPassed() ? 1 : 0);
+            hash = combineValueHash(hash, player.getLife());
+            if (useHidden) {
+                hash = combineValueHash(hash, player.getHand().hashCode());
+            } else {
+                hash = combineValueHash(hash, player.getHand().size());
+            }
+            hash = combineValueHash(hash, player.getLibrary().size());
+            hash = combineValueHash(hash, player.getGraveyard().hashCode());
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanentsHash += makeValueHash(permanent.getValueHash(this));
+        }
+        hash = combineValueHash(hash, permanentsHash);
+
+        for (StackObject spell : stack) {
+            hash = combineValueHash(hash, Objects.hashCode(spell.getControllerId()));
+            hash = combineValueHash(hash, Objects.hashCode(spell.getName()));
+            for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
+                Mode mode = spell.getStackAbility().getModes().get(modeId);
+                for (Target target : mode.getTargets()) {
+                    for (UUID targetId : target.getTargets()) {
+                        hash = combineValueHash(hash, targetId.hashCode());
+                        hash = combineValueHash(hash, target.getTargetAmount(targetId));
+                    }
+                }
+            }
+        }
+
+        for (ExileZone zone : exile.getExileZones()) {
+            hash = combineValueHash(hash, Objects.hashCode(zone.getName()));
+            hash = combineValueHash(hash, zone.hashCode());
+        }
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = combineValueHash(hash, Objects.hashCode(group.getDefenderId()));
+            hash = combineValueHash(hash, group.getAttackers().hashCode());
+            hash = combineValueHash(hash, group.getBlockers().hashCode());
+        }
+
+        return hash;
+    }
+
+    /**
+     * AI related: 64 bit hash for single value (good bits distribution, so it can be summed for unordered values)
+     */
+    public static long makeValueHash(long value) {
+        // splitmix64 finalizer
+        long hash = value + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * AI related: add next ordered value to the hash
+     */
+    public static long combineValueHash(long hash, long value) {
+        return makeValueHash(hash * 31 + value);
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -1,27 +1,111 @@
 
 package mage.game;
 
+import mage.util.Copier;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.log4j.Logger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Game states history for undo/rollback and replays
+ * <p>
+ * Only last states keep as objects (undo uses it most of the time), older states keep as compressed
+ * serialized data and restore on usage, so long games and replays don't hold full states in memory.
+ * Compress runs in the shared background thread, so game thread makes state copies only.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
-    private final List<GameState> states;
+
+    public static final int DEFAULT_MAX_UNCOMPRESSED_STATES = 10;
+
+    // memory budget for new games (server config)
+    private static volatile int defaultMaxUncompressedStates = DEFAULT_MAX_UNCOMPRESSED_STATES;
+
+    // one thread for all games, it's a memory optimization only, so daemon thread can be stopped at any time
+    private static final ExecutorService compressExecutor = makeCompressExecutor();
+
+    private final List<SavedState> states;
+    private final int maxUncompressedStates; // memory budget, 0 to compress all states
+    private int firstUncompressedState = 0; // states before it are compressed
+    private volatile boolean compressFailed = false; // e.g. not serializable objects in the game, so keep all states as objects
 
     public GameStates() {
+        this(defaultMaxUncompressedStates);
+    }
+
+    public GameStates(int maxUncompressedStates) {
         this.states = new ArrayList<>();
+        this.maxUncompressedStates = maxUncompressedStates;
+    }
+
+    private static ExecutorService makeCompressExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_GAME_STATES_COMPRESS, true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Max states to keep as objects in new games, older states will be compressed
+     */
+    public static void setDefaultMaxUncompressedStates(int maxUncompressedStates) {
+        defaultMaxUncompressedStates = Math.max(0, maxUncompressedStates);
+    }
+
+    /**
+     * Wait all queued compress tasks from all games (e.g. for tests)
+     */
+    public static void waitPendingCompress() {
+        try {
+            compressExecutor.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Can't wait game states compress", e);
+        }
     }
 
     public void save(GameState gameState) {
-        states.add(gameState.copy());
+        states.add(new SavedState(gameState.copy()));
         //logger.warn("states size: " + states.size());
+        while (states.size() - firstUncompressedState > maxUncompressedStates) {
+            SavedState savedState = states.get(firstUncompressedState);
+            if (!compressFailed) {
+                compressExecutor.execute(() -> compress(savedState));
+            }
+            firstUncompressedState++;
+        }
+    }
+
+    private void compress(SavedState savedState) {
+        if (compressFailed) {
+            return;
+        }
+        try {
+            savedState.compress();
+        } catch (IOException e) {
+            // not serializable game, so one message per game and all next states will be kept as objects
+            compressFailed = true;
+            logger.warn("Can't compress game states, it will be kept uncompressed: " + e);
+        } catch (RuntimeException e) {
+            // state copy can share some objects with the game (e.g. copied cards), so keep that state as object
+            logger.debug("Can't compress game state, it will be kept uncompressed: " + e);
+        }
     }
 
     public int getSize() {
@@ -30,32 +114,73 @@ public class GameStates implements Serializable {
 
     public GameState rollback(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
-            }
+            removeStates(index + 1);
             logger.trace("Rolling back state: " + index);
-            return states.get(index);
+            return states.get(index).getState();
         }
         return null;
     }
 
     public int remove(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index && !states.isEmpty()) {
-                states.remove(states.size() - 1);
-            }
+            removeStates(index);
         }
         return states.size();
     }
 
+    private void removeStates(int newSize) {
+        while (states.size() > newSize) {
+            states.remove(states.size() - 1);
+        }
+        firstUncompressedState = Math.min(firstUncompressedState, states.size());
+    }
+
     public GameState get(int index) {
         if (index < states.size()) {
-            return states.get(index);
+            return states.get(index).getState();
         }
         return null;
     }
 
     public void clear() {
         states.clear();
+        firstUncompressedState = 0;
+    }
+
+    /**
+     * State's data for game and compress threads
+     */
+    private static class SavedState implements Serializable {
+
+        private GameState state;
+        private byte[] compressedState;
+        private boolean used = false; // state object was given to the game, so it can be changed and can't be compressed
+
+        SavedState(GameState state) {
+            this.state = state;
+        }
+
+        synchronized void compress() throws IOException {
+            if (state == null || used) {
+                return;
+            }
+            this.compressedState = new Copier<GameState>().copyCompressedOrFail(state);
+            this.state = null;
+        }
+
+        /**
+         * Compressed states restore as new objects on each call
+         */
+        synchronized GameState getState() {
+            if (state != null) {
+                used = true;
+                return state;
+            }
+            return new Copier<GameState>().uncompressCopy(compressedState);
+        }
+
+        private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+        }
     }
 }
@@ -0,0 +1,181 @@
+package mage.game;
+
+import mage.cards.Card;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Component: game cards storage for simulated games with structural sharing (copy-on-access)
+ * <p>
+ * Simulation copy do not deep copy all game cards. Instead it keeps a link to the parent's cards
+ * and makes a real copy of the card on first access only. Most of the simulations touch only a few cards
+ * (battlefield permanents and stack objects live in the game state), so library/graveyard cards of all
+ * players will be never copied at all.
+ * <p>
+ * Parent's cards are read only here. So it's safe to use only while parent game is not changing
+ * (it's true for AI and playable calculations - parent game waits for the simulation result).
+ * Don't use it for long living copies like rollback states, saved games or AI's search trees
+ * (use Game.createFullSimulationForAI for it).
+ */
+final class SharedCardsMap extends AbstractMap<UUID, Card> implements Serializable {
+
+    // limit of parent links chain (AI creates simulation from simulation from simulation...),
+    // on overflow the copy will be fully materialized to release parents
+    private static final int MAX_PARENTS_CHAIN = 16;
+
+    private final Map<UUID, Card> cards; // own cards (copied or added after simulation start)
+    private Set<UUID> keys; // all available keys (own + shared), null after materialization
+    private Map<UUID, Card> parent; // shared cards source, null after materialization
+    private final int chainSize;
+
+    /**
+     * Create simulation's cards from parent game's cards
+     */
+    SharedCardsMap(Map<UUID, Card> parentCards) {
+        this.cards = new HashMap<>();
+        if (parentCards instanceof SharedCardsMap) {
+            SharedCardsMap sharedParent = (SharedCardsMap) parentCards;
+            if (sharedParent.parent == null) {
+                // parent is already materialized, so it's a normal parent
+                this.keys = new HashSet<>(sharedParent.cards.keySet());
+                this.chainSize = 1;
+            } else {
+                this.keys = new HashSet<>(sharedParent.keys);
+                this.chainSize = sharedParent.chainSize + 1;
+            }
+        } else {
+            this.keys = new HashSet<>(parentCards.keySet());
+            this.chainSize = 1;
+        }
+        this.parent = parentCards;
+
+        if (this.chainSize > MAX_PARENTS_CHAIN) {
+            materializeAll();
+        }
+    }
+
+    /**
+     * Find actual card object without copy (read only access to the parent's chain)
+     */
+    private Card findShared(UUID cardId) {
+        Card card = cards.get(cardId);
+        if (card != null) {
+            return card;
+        }
+        if (parent == null || !keys.contains(cardId)) {
+            return null;
+        }
+        if (parent instanceof SharedCardsMap) {
+            return ((SharedCardsMap) parent).findShared(cardId);
+        }
+        return parent.get(cardId);
+    }
+
+    private Card materialize(UUID cardId) {
+        Card sharedCard = findShared(cardId);
+        if (sharedCard == null) {
+            // removed from the parent
+            keys.remove(cardId);
+            return null;
+        }
+        Card card = sharedCard.copy();
+        cards.put(cardId, card);
+        return card;
+    }
+
+    private void materializeAll() {
+        if (parent == null) {
+            return;
+        }
+        for (UUID cardId : keys) {
+            if (!cards.containsKey(cardId)) {
+                Card sharedCard = findShared(cardId);
+                if (sharedCard != null) {
+                    cards.put(cardId, sharedCard.copy());
+                }
+            }
+        }
+        this.parent = null;
+        this.keys = null;
+    }
+
+    /**
+     * Full copy of all cards without changes in that map (e.g. for long living copy of the simulation)
+     */
+    Map<UUID, Card> copyAll() {
+        Map<UUID, Card> res = new HashMap<>();
+        if (parent == null) {
+            cards.forEach((cardId, card) -> res.put(cardId, card.copy()));
+            return res;
+        }
+        for (UUID cardId : keys) {
+            Card card = findShared(cardId);
+            if (card != null) {
+                res.put(cardId, card.copy());
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public Card get(Object key) {
+        Card card = cards.get(key);
+        if (card != null || parent == null || !(key instanceof UUID) || !keys.contains(key)) {
+            return card;
+        }
+        return materialize((UUID) key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return parent == null ? cards.containsKey(key) : keys.contains(key);
+    }
+
+    @Override
+    public Card put(UUID key, Card value) {
+        Card oldCard = findShared(key);
+        if (parent != null) {
+            keys.add(key);
+        }
+        cards.put(key, value);
+        return oldCard;
+    }
+
+    @Override
+    public Card remove(Object key) {
+        if (!(key instanceof UUID)) {
+            return null;
+        }
+        Card oldCard = findShared((UUID) key);
+        if (parent != null) {
+            keys.remove(key);
+        }
+        cards.remove(key);
+        return oldCard;
+    }
+
+    @Override
+    public void clear() {
+        cards.clear();
+        this.parent = null;
+        this.keys = null;
+    }
+
+    @Override
+    public int size() {
+        return parent == null ? cards.size() : keys.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<Entry<UUID, Card>> entrySet() {
+        // full iteration, so must copy all cards (rare use case like game restart)
+        materializeAll();
+        return cards.entrySet();
+    }
+}
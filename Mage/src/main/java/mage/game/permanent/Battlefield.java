@@ -51,13 +51,15 @@ public class Battlefield implements Serializable {
      * can use count() instead of countAll()
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, game)
-                        && permanent.isPhasedIn())
-                .count();
-
+        int res = 0;
+        for (Permanent permanent : field.values()) {
+            if (permanent.isPhasedIn()
+                    && permanent.isControlledBy(controllerId)
+                    && filter.match(permanent, game)) {
+                res++;
+            }
+        }
+        return res;
     }
 
     /**
@@ -65,20 +67,37 @@ public class Battlefield implements Serializable {
      * influence of the specified player id and that match the supplied filter.
      */
     public int count(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
+        return countActive(filter, sourcePlayerId, source, game, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Count phased in permanents in range of influence, stops on maxCount (no need to check all permanents for
+     * "contains N or more" checks)
+     */
+    private int countActive(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int maxCount) {
+        Set<UUID> range = getRange(sourcePlayerId, game);
+        int res = 0;
+        for (Permanent permanent : field.values()) {
+            if (res >= maxCount) {
+                break;
+            }
+            if (permanent.isPhasedIn()
+                    && (range == null || range.contains(permanent.getControllerId()))
+                    && filter.match(permanent, sourcePlayerId, source, game)) {
+                res++;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return null for full range of influence
+     */
+    private static Set<UUID> getRange(UUID sourcePlayerId, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return (int) field.values()
-                    .stream()
-                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn())
-                    .count();
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
-                    .stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count();
+            return null;
         }
+        return new HashSet<>(game.getState().getPlayersInRange(sourcePlayerId, game));
     }
 
     public boolean containsControlled(FilterPermanent filter, Ability source, Game game, int num) {
@@ -93,12 +112,18 @@ public class Battlefield implements Serializable {
      * @param controllerId controller and source can be different (from different players)
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, controllerId, source, game)
-                        && permanent.isPhasedIn())
-                .count() >= num;
+        int count = 0;
+        for (Permanent permanent : field.values()) {
+            if (count >= num) {
+                break;
+            }
+            if (permanent.isPhasedIn()
+                    && permanent.isControlledBy(controllerId)
+                    && filter.match(permanent, controllerId, source, game)) {
+                count++;
+            }
+        }
+        return count >= num;
     }
 
     public boolean contains(FilterPermanent filter, Ability source, Game game, int num) {
@@ -111,19 +136,7 @@ public class Battlefield implements Serializable {
      * matches the supplied filter.
      */
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int num) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values().stream()
-                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count() >= num;
-
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn())
-                    .count() >= num;
-        }
+        return countActive(filter, sourcePlayerId, source, game, num) >= num;
     }
 
     public void addPermanent(Permanent permanent) {
@@ -243,18 +256,16 @@ public class Battlefield implements Serializable {
      * the specified player id and that match the supplied filter.
      */
     public List<Permanent> getActivePermanents(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn() && filter.match(perm, sourcePlayerId, source, game))
-                    .collect(Collectors.toList());
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
-                            && filter.match(perm, sourcePlayerId, source, game)).collect(Collectors.toList());
+        Set<UUID> range = getRange(sourcePlayerId, game);
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : field.values()) {
+            if (perm.isPhasedIn()
+                    && (range == null || range.contains(perm.getControllerId()))
+                    && filter.match(perm, sourcePlayerId, source, game)) {
+                res.add(perm);
+            }
         }
+        return res;
     }
 
     /**
@@ -262,17 +273,17 @@ public class Battlefield implements Serializable {
      * the specified player id.
      */
     public List<Permanent> getActivePermanents(UUID sourcePlayerId, Game game) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
+        Set<UUID> range = getRange(sourcePlayerId, game);
+        if (range == null) {
             return getAllActivePermanents();
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn()
-                            && range.contains(perm.getControllerId()))
-                    .collect(Collectors.toList());
-
         }
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : field.values()) {
+            if (perm.isPhasedIn() && range.contains(perm.getControllerId())) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -221,6 +221,11 @@ public interface Permanent extends Card, Controllable {
 
     String getValue(GameState state);
 
+    /**
+     * AI related: fast version of getValue, see GameState.getValueHash
+     */
+    long getValueHash(GameState state);
+
     /**
      * Add abilities to the permanent, can be used in effects
      *
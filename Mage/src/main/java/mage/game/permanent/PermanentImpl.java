@@ -272,6 +272,32 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    @Override
+    public long getValueHash(GameState state) {
+        long hash = GameState.makeValueHash(Objects.hashCode(controllerId));
+        hash = GameState.combineValueHash(hash, Objects.hashCode(getName()));
+        hash = GameState.combineValueHash(hash, tapped ? 1 : 0);
+        hash = GameState.combineValueHash(hash, damage);
+        hash = GameState.combineValueHash(hash, subtype.hashCode());
+        hash = GameState.combineValueHash(hash, supertype.hashCode());
+        hash = GameState.combineValueHash(hash, power.getValue());
+        hash = GameState.combineValueHash(hash, toughness.getValue());
+        long abilitiesHash = 0;
+        for (Ability ability : abilities) {
+            // original id is same for all copies of the ability (also for abilities from effects), so no needs in rule text
+            long abilityHash = GameState.makeValueHash(ability.getClass().getName().hashCode());
+            abilityHash = GameState.combineValueHash(abilityHash, Objects.hashCode(ability.getOriginalId()));
+            abilityHash = GameState.combineValueHash(abilityHash, Objects.hashCode(ability.getZone()));
+            abilitiesHash += abilityHash;
+        }
+        hash = GameState.combineValueHash(hash, abilitiesHash);
+        long countersHash = 0;
+        for (Counter counter : getCounters(state).values()) {
+            countersHash += GameState.makeValueHash(counter.hashCode());
+        }
+        return GameState.combineValueHash(hash, countersHash);
+    }
+
     @Override
     public void addInfo(String key, String value, Game game) {
         if (info == null) {
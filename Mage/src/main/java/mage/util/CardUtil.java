@@ -61,6 +61,7 @@ import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -1345,8 +1346,19 @@ public final class CardUtil {
      */
     public static List<String> getCardRulesWithAdditionalInfo(Game game, MageObject object,
                                                               Abilities<Ability> rulesSource, Abilities<Ability> hintsSource) {
+        return getCardRulesWithAdditionalInfo(game, object, rulesSource::getRules, hintsSource);
+    }
+
+    /**
+     * Prepare rules list from abilities
+     *
+     * @param rulesSource abilities rules to show (can be cached by object, must return new list on each call)
+     * @param hintsSource abilities list to show as card hints only
+     */
+    public static List<String> getCardRulesWithAdditionalInfo(Game game, MageObject object,
+                                                              Supplier<List<String>> rulesSource, Abilities<Ability> hintsSource) {
         try {
-            List<String> rules = rulesSource.getRules();
+            List<String> rules = rulesSource.get();
 
             if (game == null || game.getPhase() == null) {
                 // dynamic hints for started game only
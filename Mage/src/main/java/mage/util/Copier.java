@@ -2,12 +2,14 @@
 
 package mage.util;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  *
@@ -51,4 +53,57 @@ public class Copier<T> {
         return copy;
 
     }
+
+    /**
+     * Serialize object to compressed bytes, e.g. to keep rarely used objects in memory (see GameStates)
+     *
+     * @return null on serialization errors
+     */
+    public byte[] copyCompressed(T obj) {
+        try {
+            return copyCompressedOrFail(obj);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Same as copyCompressed, but with errors for callers with own errors processing
+     */
+    public byte[] copyCompressedOrFail(T obj) throws IOException {
+        FastByteArrayOutputStream fbos = new FastByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ObjectOutputStream out = null;
+        try {
+            out = new ObjectOutputStream(new DeflaterOutputStream(fbos, deflater));
+            out.writeObject(obj);
+            out.close();
+            return Arrays.copyOf(fbos.getByteArray(), fbos.getSize());
+        } finally {
+            StreamUtils.closeQuietly(out);
+            deflater.end();
+        }
+    }
+
+    /**
+     * Restore new object from copyCompressed data
+     *
+     * @return null on deserialization errors
+     */
+    public T uncompressCopy(byte[] data) {
+        Inflater inflater = new Inflater();
+        ObjectInputStream in = null;
+        try {
+            in = new CopierObjectInputStream(loader != null ? loader : Copier.class.getClassLoader(),
+                    new InflaterInputStream(new FastByteArrayInputStream(data, data.length), inflater));
+            return (T) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            e.printStackTrace();
+        } finally {
+            StreamUtils.closeQuietly(in);
+            inflater.end();
+        }
+        return null;
+    }
 }
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 /**
  * Created by IGOUDT on 5-9-2016.
@@ -13,27 +14,79 @@ public final class RandomUtil {
 
     private static final Random random = new Random(); // thread safe with seed support
 
+    // game's random for current thread (each game and AI simulation uses own random, see GameImpl.getRandom)
+    private static final ThreadLocal<Random> contextRandom = new ThreadLocal<>();
+
     private RandomUtil() {
     }
 
+    /**
+     * Current random: game's random in game and simulation threads or global random for all other code
+     */
     public static Random getRandom() {
-        return random;
+        Random res = contextRandom.get();
+        return res == null ? random : res;
+    }
+
+    /**
+     * Bind random to current thread, so all RandomUtil calls will use it (e.g. game thread or AI simulation thread)
+     *
+     * @param newRandom null to use global random
+     * @return previous random of the thread (must be restored after usage)
+     */
+    public static Random setContextRandom(Random newRandom) {
+        Random res = contextRandom.get();
+        if (newRandom == null) {
+            contextRandom.remove();
+        } else {
+            contextRandom.set(newRandom);
+        }
+        return res;
+    }
+
+    /**
+     * Task with bound random, e.g. AI simulation in another thread must use random of the simulated game
+     */
+    public static <T> Callable<T> makeTaskWithRandom(Random taskRandom, Callable<T> task) {
+        return () -> {
+            Random prevRandom = setContextRandom(taskRandom);
+            try {
+                return task.call();
+            } finally {
+                setContextRandom(prevRandom);
+            }
+        };
+    }
+
+    /**
+     * Seed for new independent random, e.g. for game copy (same seed and index gives same result)
+     */
+    public static long makeSplitSeed(long seed, long index) {
+        // SplitMix64
+        long res = seed + index * 0x9E3779B97F4A7C15L;
+        res = (res ^ (res >>> 30)) * 0xBF58476D1CE4E5B9L;
+        res = (res ^ (res >>> 27)) * 0x94D049BB133111EBL;
+        return res ^ (res >>> 31);
     }
 
     public static int nextInt() {
-        return random.nextInt();
+        return getRandom().nextInt();
     }
 
     public static int nextInt(int max) {
-        return random.nextInt(max);
+        return getRandom().nextInt(max);
+    }
+
+    public static long nextLong() {
+        return getRandom().nextLong();
     }
 
     public static boolean nextBoolean() {
-        return random.nextBoolean();
+        return getRandom().nextBoolean();
     }
 
     public static double nextDouble() {
-        return random.nextDouble();
+        return getRandom().nextDouble();
     }
 
     public static Color nextColor() {
@@ -41,7 +94,7 @@ public final class RandomUtil {
     }
 
     public static void setSeed(long newSeed) {
-        random.setSeed(newSeed);
+        getRandom().setSeed(newSeed);
     }
 
     public static <T> T randomFromCollection(Collection<T> collection) {
@@ -17,8 +17,10 @@ public final class ThreadUtils {
     // basic
     public final static String THREAD_PREFIX_GAME = "GAME";
     public final static String THREAD_PREFIX_AI_SIMULATION_MAD = "AI-SIM-MAD";
+    public final static String THREAD_PREFIX_AI_SIMULATION_MAD_PARALLEL = "AI-SIM-MAD-PARALLEL";
     public final static String THREAD_PREFIX_AI_SIMULATION_MCTS = "AI-SIM-MCTS";
     public final static String THREAD_PREFIX_CALL_REQUEST = "CALL";
+    public final static String THREAD_PREFIX_CALLBACK_SEND = "CALLBACK";
     public final static String THREAD_PREFIX_TOURNEY = "TOURNEY";
     public final static String THREAD_PREFIX_TOURNEY_DRAFT = "TOURNEY DRAFT";
     public final static String THREAD_PREFIX_TOURNEY_BOOSTERS_SEND = "TOURNEY BOOSTERS SEND";
@@ -32,6 +34,9 @@ public final class ThreadUtils {
     public final static String THREAD_PREFIX_SERVICE_CONNECTION_EXPIRED_CHECK = "XMAGE connection expired check";
     public final static String THREAD_PREFIX_SERVICE_LOBBY_REFRESH = "XMAGE lobby refresh";
     public final static String THREAD_PREFIX_SERVICE_NEWS_REFRESH = "XMAGE news refresh";
+    public final static String THREAD_PREFIX_SERVICE_REPLAY_WRITER = "XMAGE replay writer";
+    public final static String THREAD_PREFIX_SERVICE_GAME_STATES_COMPRESS = "XMAGE game states compress";
+    public final static String THREAD_PREFIX_SERVICE_TABLE_RECORDS = "XMAGE table records";
 
     // etc
     public final static String THREAD_PREFIX_TIMEOUT = "XMAGE timeout";
@@ -19,6 +19,16 @@ public abstract class Watcher implements Serializable {
 
     private static final Logger logger = Logger.getLogger(Watcher.class);
 
+    /**
+     * Reflection data for watchers copy (game copy copies all watchers, so find it once per watcher class)
+     */
+    private static final ClassValue<CopyInfo> copyInfos = new ClassValue<CopyInfo>() {
+        @Override
+        protected CopyInfo computeValue(Class<?> type) {
+            return new CopyInfo(type);
+        }
+    };
+
     protected UUID controllerId;
     protected UUID sourceId;
     protected boolean condition;
@@ -78,42 +88,33 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * Optional list of event types from watch, used for fast watchers search by event type.
+     * Must be overridden together with watch in the same class, otherwise it will be ignored.
+     * Called on each watchers index update, so return a static read only set instead of new set per call.
+     *
+     * @return null for unknown or dynamic event types (watcher will be called for all events)
+     */
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return null;
+    }
+
+    /**
+     * Watchers don't use copy constructors, so copy makes new object by default constructor and copies all fields
+     * (see VerifyCardDataTest.test_checkWatcherCopyMethods)
+     */
     public <T extends Watcher> T copy() {
+        CopyInfo copyInfo = copyInfos.get(getClass());
+        if (copyInfo.constructor == null) {
+            logger.error(getClass().getSimpleName() + " has multiple constructors");
+            return null;
+        }
         try {
-            //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
-            List<?> constructors = Arrays.asList(this.getClass().getDeclaredConstructors());
-            if (constructors.size() > 1) {
-                logger.error(getClass().getSimpleName() + " has multiple constructors");
-                return null;
-            }
-
-            Constructor<? extends Watcher> constructor = (Constructor<? extends Watcher>) constructors.get(0);
-
-            // collect all fields
-            constructor.setAccessible(true);
-            Object[] args = new Object[constructor.getParameterCount()];
-            for (int index = 0; index < constructor.getParameterTypes().length; index++) {
-                Class<?> parameterType = constructor.getParameterTypes()[index];
-                if (parameterType.isPrimitive()) {
-                    if (parameterType.getSimpleName().equalsIgnoreCase("boolean")) {
-                        args[index] = false;
-                    }
-                } else {
-                    args[index] = null;
-                }
-
-            }
-            T watcher = (T) constructor.newInstance(args);
-            List<Field> allFields = new ArrayList<>();
-            allFields.addAll(Arrays.asList(getClass().getDeclaredFields()));
-            allFields.addAll(Arrays.asList(getClass().getSuperclass().getDeclaredFields()));
+            T watcher = (T) copyInfo.constructor.newInstance(copyInfo.args);
 
             // copy field's values
-            for (Field field : allFields) {
-                if (!Modifier.isStatic(field.getModifiers())) {
-                    field.setAccessible(true);
-                    field.set(watcher, CardUtil.deepCopyObject(field.get(this)));
-                }
+            for (Field field : copyInfo.fields) {
+                field.set(watcher, CardUtil.deepCopyObject(field.get(this)));
             }
             return watcher;
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
@@ -125,4 +126,44 @@ public abstract class Watcher implements Serializable {
     public WatcherScope getScope() {
         return scope;
     }
+
+    private static final class CopyInfo {
+
+        private final Constructor<?> constructor; // null on wrong watcher class
+        private final Object[] args;
+        private final Field[] fields;
+
+        private CopyInfo(Class<?> watcherClass) {
+            //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
+            Constructor<?>[] constructors = watcherClass.getDeclaredConstructors();
+            if (constructors.length > 1) {
+                this.constructor = null;
+                this.args = null;
+                this.fields = null;
+                return;
+            }
+
+            this.constructor = constructors[0];
+            this.constructor.setAccessible(true);
+            this.args = new Object[this.constructor.getParameterCount()];
+            for (int index = 0; index < this.args.length; index++) {
+                Class<?> parameterType = this.constructor.getParameterTypes()[index];
+                if (parameterType.isPrimitive()) {
+                    if (parameterType.getSimpleName().equalsIgnoreCase("boolean")) {
+                        this.args[index] = false;
+                    }
+                } else {
+                    this.args[index] = null;
+                }
+            }
+
+            // collect all fields
+            List<Field> allFields = new ArrayList<>();
+            allFields.addAll(Arrays.asList(watcherClass.getDeclaredFields()));
+            allFields.addAll(Arrays.asList(watcherClass.getSuperclass().getDeclaredFields()));
+            allFields.removeIf(field -> Modifier.isStatic(field.getModifiers()));
+            allFields.forEach(field -> field.setAccessible(true));
+            this.fields = allFields.toArray(new Field[0]);
+        }
+    }
 }
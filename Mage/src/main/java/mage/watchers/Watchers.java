@@ -5,20 +5,30 @@ import mage.game.events.GameEvent;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
-import java.util.HashMap;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author BetaSteward_at_googlemail.com
  */
-public class Watchers extends HashMap<String, Watcher> {
+public class Watchers implements Serializable {
 
     private static final Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
+    // all changes must go through own methods to keep event types index in sync, so no direct access to the map
+    private final Map<String, Watcher> watchers = new HashMap<>();
+
+    // fast watchers search by event type (only watchers that can accept the event, same order as full list)
+    // auto-generated data (on first usage of each event type), reset on any watchers remove, don't copy
+    private transient Map<GameEvent.EventType, List<Watcher>> eventTypesIndex = new EnumMap<>(GameEvent.EventType.class);
+    private static final Map<Class<?>, Boolean> eventTypesSupportedClasses = new ConcurrentHashMap<>();
+
     public Watchers() {
     }
 
     private Watchers(final Watchers watchers) {
-        watchers.forEach((key, value) -> this.put(key, value.copy()));
+        watchers.watchers.forEach((key, value) -> this.watchers.put(key, value.copy()));
     }
 
     public Watchers copy() {
@@ -33,22 +43,126 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        for (Watcher watcher : getWatchersForEventType(event.getType())) {
             watcher.watch(event, game);
         }
     }
 
+    /**
+     * Watchers that can be used by event type (keep same order as full watchers list)
+     */
+    private List<Watcher> getWatchersForEventType(GameEvent.EventType eventType) {
+        if (eventTypesIndex == null) {
+            eventTypesIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        List<Watcher> res = eventTypesIndex.get(eventType);
+        if (res == null) {
+            res = new ArrayList<>();
+            for (Watcher watcher : this.watchers.values()) {
+                if (canUseEventType(watcher, eventType)) {
+                    res.add(watcher);
+                }
+            }
+            eventTypesIndex.put(eventType, res);
+        }
+        return res;
+    }
+
+    private static boolean canUseEventType(Watcher watcher, GameEvent.EventType eventType) {
+        Set<GameEvent.EventType> eventTypes = getSupportedEventTypes(watcher);
+        return eventTypes == null || eventTypes.contains(eventType);
+    }
+
+    /**
+     * Event types of the watcher for fast search. It's safe to use only if watch and getWatchedEventTypes
+     * declared in the same class (e.g. child class can override watch without event types list)
+     *
+     * @return null for unknown event types (must watch all events)
+     */
+    public static Set<GameEvent.EventType> getSupportedEventTypes(Watcher watcher) {
+        Set<GameEvent.EventType> eventTypes = watcher.getWatchedEventTypes();
+        if (eventTypes == null) {
+            return null;
+        }
+        boolean supported = eventTypesSupportedClasses.computeIfAbsent(watcher.getClass(), clazz -> {
+            try {
+                return clazz.getMethod("watch", GameEvent.class, Game.class).getDeclaringClass()
+                        == clazz.getMethod("getWatchedEventTypes").getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        });
+        return supported ? eventTypes : null;
+    }
+
+    private void resetEventTypesIndex() {
+        if (eventTypesIndex != null) {
+            eventTypesIndex.clear();
+        }
+    }
+
+    private void addToEventTypesIndex(Watcher watcher) {
+        if (eventTypesIndex != null) {
+            // new watcher added to the end of the list
+            eventTypesIndex.forEach((eventType, watchers) -> {
+                if (canUseEventType(watcher, eventType)) {
+                    watchers.add(watcher);
+                }
+            });
+        }
+    }
+
     public void reset() {
-        this.values().forEach(Watcher::reset);
+        this.watchers.values().forEach(Watcher::reset);
     }
 
-    @Override
-    public Watcher get(Object key) {
-        if (containsKey(key)) {
-            return super.get(key);
+    public Watcher get(String key) {
+        Watcher watcher = watchers.get(key);
+        if (watcher != null) {
+            return watcher;
         }
         // can't add game exception here because it's an easy way to ruin any game with bugged card
         logger.error(key + " not found in watchers", new Throwable());
         return null;
     }
+
+    public boolean containsKey(String key) {
+        return watchers.containsKey(key);
+    }
+
+    public int size() {
+        return watchers.size();
+    }
+
+    public Watcher put(String key, Watcher watcher) {
+        Watcher oldWatcher = watchers.put(key, watcher);
+        if (oldWatcher != null) {
+            // replace keeps old position in the list
+            resetEventTypesIndex();
+        } else {
+            addToEventTypesIndex(watcher);
+        }
+        return oldWatcher;
+    }
+
+    public Watcher putIfAbsent(String key, Watcher watcher) {
+        Watcher oldWatcher = watchers.putIfAbsent(key, watcher);
+        if (oldWatcher == null) {
+            addToEventTypesIndex(watcher);
+        }
+        return oldWatcher;
+    }
+
+    public Watcher remove(String key) {
+        Watcher oldWatcher = watchers.remove(key);
+        if (oldWatcher != null) {
+            resetEventTypesIndex();
+        }
+        return oldWatcher;
+    }
+
+    public void clear() {
+        watchers.clear();
+        resetEventTypesIndex();
+    }
 }
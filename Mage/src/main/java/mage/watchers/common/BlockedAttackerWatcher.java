@@ -1,5 +1,7 @@
 package mage.watchers.common;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -17,6 +19,8 @@ import mage.watchers.Watcher;
  */
 public class BlockedAttackerWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED));
+
     private final Map<MageObjectReference, Set<MageObjectReference>> blockData = new HashMap<>();
 
     /**
@@ -41,6 +45,11 @@ public class BlockedAttackerWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -7,6 +7,10 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Must be installed to player for proper Bloodthirst work
@@ -14,6 +18,9 @@ import mage.watchers.Watcher;
  * @author Loki
  */
 public class BloodthirstWatcher extends Watcher {
+
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER));
+
     public BloodthirstWatcher() {
         super(WatcherScope.PLAYER);
     }
@@ -31,4 +38,9 @@ public class BloodthirstWatcher extends Watcher {
             }
         }
     }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
 }
@@ -5,8 +5,11 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -15,6 +18,8 @@ import java.util.UUID;
 
 public class CardsDrawnThisTurnWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.DREW_CARD));
+
     private final Map<UUID, Integer> cardsDrawnThisTurn = new HashMap<>();
 
     /**
@@ -32,6 +37,11 @@ public class CardsDrawnThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public int getCardsDrawnThisTurn(UUID playerId) {
         return cardsDrawnThisTurn.getOrDefault(playerId, 0);
     }
@@ -6,8 +6,11 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -15,6 +18,8 @@ import java.util.UUID;
  */
 public class EndStepCountWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE));
+
     private final Map<UUID, Integer> playerMap = new HashMap<>();
 
     /**
@@ -31,6 +36,11 @@ public class EndStepCountWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public static int getCount(UUID playerId, Game game) {
         return game
                 .getState()
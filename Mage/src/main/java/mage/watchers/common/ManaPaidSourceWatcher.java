@@ -15,8 +15,11 @@ import mage.util.Copyable;
 import mage.watchers.Watcher;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,6 +29,8 @@ import java.util.UUID;
  */
 public class ManaPaidSourceWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.ZONE_CHANGE, GameEvent.EventType.MANA_PAID));
+
     private static final class ManaPaidTracker implements Serializable, Copyable<ManaPaidTracker> {
 
         private int total = 0;
@@ -136,6 +141,11 @@ public class ManaPaidSourceWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -7,8 +7,11 @@ import mage.game.events.DieRolledEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /*
@@ -19,6 +22,8 @@ import java.util.UUID;
  */
 public class PlanarRollWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.DIE_ROLLED));
+
     private final Map<UUID, Integer> numberTimesPlanarDieRolled = new HashMap<>();
 
     public PlanarRollWatcher() {
@@ -42,6 +47,11 @@ public class PlanarRollWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public int getNumberTimesPlanarDieRolled(UUID playerId) {
         return numberTimesPlanarDieRolled.getOrDefault(playerId, 0);
     }
@@ -1,5 +1,7 @@
 package mage.watchers.common;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -17,6 +19,8 @@ import mage.watchers.Watcher;
  */
 public class PlayerDamagedBySourceWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER));
+
     private final Set<String> damageSourceIds = new HashSet<>();
     private final Set<String> combatDamageSourceIds = new HashSet<>();
 
@@ -37,6 +41,11 @@ public class PlayerDamagedBySourceWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     /**
      * Checks if the current object with sourceId has damaged the player during the current turn.
      * The zoneChangeCounter will be taken into account.
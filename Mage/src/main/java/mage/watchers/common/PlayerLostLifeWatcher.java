@@ -6,8 +6,11 @@ import mage.game.events.GameEvent;
 import mage.players.Player;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /*
@@ -18,6 +21,8 @@ import java.util.UUID;
  */
 public class PlayerLostLifeWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.LOST_LIFE));
+
     private final Map<UUID, Integer> amountOfLifeLostThisTurn = new HashMap<>();
     private final Map<UUID, Integer> amountOfLifeLostLastTurn = new HashMap<>();
 
@@ -44,6 +49,11 @@ public class PlayerLostLifeWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public int getLifeLost(UUID playerId) {
         return amountOfLifeLostThisTurn.getOrDefault(playerId, 0);
     }
@@ -6,8 +6,11 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -15,6 +18,8 @@ import java.util.UUID;
  */
 public class TemptedByTheRingWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.TEMPTED_BY_RING, GameEvent.EventType.BEGINNING_PHASE_PRE));
+
     private final Map<UUID, Integer> map = new HashMap<>();
 
     /**
@@ -37,6 +42,11 @@ public class TemptedByTheRingWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -9,6 +9,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.players.PlayerList;
 import mage.watchers.Watcher;
+import mage.watchers.Watchers;
 import org.junit.Test;
 
 import java.util.*;
@@ -288,4 +289,83 @@ public class WatcherTest {
         assertFalse(copyPlayerListInMapField.containsKey("pl3"));
         assertEquals(copyPlayerListInMapField.get("pl1").getClass(), playerListInMapField.get("pl1").getClass());
     }
+
+    @Test
+    public void testWatchersEventDispatch() {
+        // Given
+        EventTypesWatcher declaredWatcher = new EventTypesWatcher(EnumSet.of(GameEvent.EventType.SPELL_CAST));
+        EventTypesWatcher allEventsWatcher = new EventTypesWatcher(null);
+        Watchers watchers = new Watchers();
+        watchers.put("declared", declaredWatcher);
+        watchers.put("all", allEventsWatcher);
+
+        // When
+        watchers.watch(GameEvent.getEvent(GameEvent.EventType.SPELL_CAST, null, null, null), null);
+        watchers.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, null, null, null), null);
+
+        // And new watcher after first events
+        EventTypesWatcher newWatcher = new EventTypesWatcher(EnumSet.of(GameEvent.EventType.DREW_CARD));
+        watchers.put("new", newWatcher);
+        watchers.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, null, null, null), null);
+        watchers.watch(GameEvent.getEvent(GameEvent.EventType.LOST_LIFE, null, null, null), null);
+
+        // Then
+        assertEquals(ImmutableList.of(GameEvent.EventType.SPELL_CAST), declaredWatcher.getEventTypes());
+        assertEquals(ImmutableList.of(GameEvent.EventType.SPELL_CAST, GameEvent.EventType.DREW_CARD,
+                GameEvent.EventType.DREW_CARD, GameEvent.EventType.LOST_LIFE), allEventsWatcher.getEventTypes());
+        assertEquals(ImmutableList.of(GameEvent.EventType.DREW_CARD), newWatcher.getEventTypes());
+    }
+
+    @Test
+    public void testWatchersEventDispatchAfterChanges() {
+        // Given
+        EventTypesWatcher removedWatcher = new EventTypesWatcher(EnumSet.of(GameEvent.EventType.DREW_CARD));
+        EventTypesWatcher oldWatcher = new EventTypesWatcher(EnumSet.of(GameEvent.EventType.DREW_CARD));
+        EventTypesWatcher replacedWatcher = new EventTypesWatcher(EnumSet.of(GameEvent.EventType.DREW_CARD));
+        Watchers watchers = new Watchers();
+        watchers.put("removed", removedWatcher);
+        watchers.put("replaced", oldWatcher);
+        watchers.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, null, null, null), null);
+
+        // When
+        watchers.remove("removed");
+        watchers.put("replaced", replacedWatcher);
+        watchers.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, null, null, null), null);
+        Watchers copiedWatchers = watchers.copy();
+        watchers.clear();
+        watchers.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, null, null, null), null);
+
+        // Then
+        assertEquals(ImmutableList.of(GameEvent.EventType.DREW_CARD), removedWatcher.getEventTypes());
+        assertEquals(ImmutableList.of(GameEvent.EventType.DREW_CARD), oldWatcher.getEventTypes());
+        assertEquals(ImmutableList.of(GameEvent.EventType.DREW_CARD), replacedWatcher.getEventTypes());
+        assertEquals(0, watchers.size());
+        assertEquals(1, copiedWatchers.size());
+        assertTrue(copiedWatchers.containsKey("replaced"));
+    }
+
+    private static class EventTypesWatcher extends Watcher {
+
+        private final Set<GameEvent.EventType> watchedEventTypes;
+        private final List<GameEvent.EventType> eventTypes = new ArrayList<>();
+
+        EventTypesWatcher(Set<GameEvent.EventType> watchedEventTypes) {
+            super(GAME);
+            this.watchedEventTypes = watchedEventTypes;
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            eventTypes.add(event.getType());
+        }
+
+        @Override
+        public Set<GameEvent.EventType> getWatchedEventTypes() {
+            return watchedEventTypes;
+        }
+
+        public List<GameEvent.EventType> getEventTypes() {
+            return eventTypes;
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package mage.abilities.mana;
+
+import mage.ConditionalMana;
+import mage.Mana;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Packed mana compare must be same as Mana.getMoreValuableMana
+ */
+public class PackedManaTest {
+
+    @Test
+    public void test_Pack() {
+        Assert.assertNotEquals(PackedMana.NOT_PACKED, PackedMana.pack(new Mana()));
+        Assert.assertNotEquals(PackedMana.NOT_PACKED, PackedMana.pack(new Mana(1, 2, 3, 4, 5, 6, 7, 8)));
+        Assert.assertEquals(PackedMana.pack(Mana.RedMana(2)), PackedMana.pack(Mana.RedMana(2)));
+        Assert.assertNotEquals(PackedMana.pack(Mana.RedMana(2)), PackedMana.pack(Mana.GreenMana(2)));
+
+        // unsupported
+        Assert.assertEquals(PackedMana.NOT_PACKED, PackedMana.pack(Mana.RedMana(1000)));
+        Assert.assertEquals(PackedMana.NOT_PACKED, PackedMana.pack(Mana.AnyMana(200)));
+        Assert.assertEquals(PackedMana.NOT_PACKED, PackedMana.pack(new ConditionalMana(Mana.RedMana(1))));
+        Mana flagged = Mana.RedMana(1);
+        flagged.setFlag(true);
+        Assert.assertEquals(PackedMana.NOT_PACKED, PackedMana.pack(flagged));
+    }
+
+    @Test
+    public void test_CompareMustBeSameAsMana() {
+        // same examples as ManaTest.moreValuableManaTest
+        assertCompare(Mana.GenericMana(1), Mana.RedMana(1));
+        assertCompare(Mana.GenericMana(2), new Mana(1, 0, 0, 0, 0, 1, 0, 0));
+        assertCompare(Mana.ColorlessMana(1), Mana.AnyMana(1));
+        assertCompare(new Mana(1, 0, 0, 1, 1, 0, 0, 0), new Mana(1, 0, 1, 1, 0, 0, 0, 0));
+
+        // random combinations
+        Random random = new Random(42);
+        List<Mana> manas = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            manas.add(new Mana(random.nextInt(3), random.nextInt(3), random.nextInt(3), random.nextInt(3),
+                    random.nextInt(3), random.nextInt(3), random.nextInt(3), random.nextInt(3)));
+        }
+        for (Mana mana1 : manas) {
+            for (Mana mana2 : manas) {
+                assertCompare(mana1, mana2);
+            }
+        }
+    }
+
+    private void assertCompare(Mana mana1, Mana mana2) {
+        Mana need = Mana.getMoreValuableMana(mana1, mana2);
+        int needRes = need == null ? 0 : (need == mana1 ? 1 : -1);
+        Assert.assertEquals(mana1 + " vs " + mana2, needRes, PackedMana.compareValue(PackedMana.pack(mana1), PackedMana.pack(mana2)));
+    }
+}